@@ -0,0 +1,67 @@
+// Load test for the task API, used to compare the platform-thread and virtual-thread execution modes.
+//
+//   VIRTUAL_THREADS=false docker compose up -d --build backend postgres
+//   k6 run -e BASE_URL=http://localhost:8080 load-test/task-api.js
+//   VIRTUAL_THREADS=true docker compose up -d --build backend postgres
+//   k6 run -e BASE_URL=http://localhost:8080 load-test/task-api.js
+//
+// Compare http_reqs (throughput), the p(99) of http_req_duration, and the rate of 503 responses in the two summaries.
+import http from "k6/http";
+import { check } from "k6";
+
+const BASE_URL = `${__ENV.BASE_URL || "http://localhost:8080"}/api/tasks`;
+const JSON_HEADERS = { headers: { "Content-Type": "application/json" } };
+
+export const options = {
+  summaryTrendStats: ["avg", "p(50)", "p(95)", "p(99)", "max"],
+  scenarios: {
+    burst: {
+      executor: "ramping-arrival-rate",
+      startRate: 50,
+      timeUnit: "1s",
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 500, duration: "30s" },
+        { target: 2000, duration: "30s" },
+        { target: 2000, duration: "1m" },
+        { target: 0, duration: "15s" },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ["rate<0.05"],
+  },
+};
+
+export function setup() {
+  const tasks = [];
+  for (let i = 0; i < 500; i++) {
+    tasks.push({ title: `Load test task ${i}`, description: "Created by the k6 load test", priority: "medium" });
+  }
+  const res = http.post(`${BASE_URL}/batch`, JSON.stringify(tasks), JSON_HEADERS);
+  check(res, { "seeded": (r) => r.status === 200 });
+  return { ids: res.json("results").map((r) => r.id) };
+}
+
+export default function (data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const roll = Math.random();
+  let res;
+  if (roll < 0.6) {
+    res = http.get(`${BASE_URL}?size=20`, { tags: { name: "list" } });
+  } else if (roll < 0.85) {
+    res = http.get(`${BASE_URL}/${id}`, { tags: { name: "detail" } });
+  } else if (roll < 0.95) {
+    res = http.patch(`${BASE_URL}/${id}`, JSON.stringify({ completed: Math.random() < 0.5 }),
+      Object.assign({ tags: { name: "toggle" } }, JSON_HEADERS));
+  } else {
+    res = http.post(`${BASE_URL}/${id}/comments`, JSON.stringify({ text: "k6 comment" }),
+      Object.assign({ tags: { name: "comment" } }, JSON_HEADERS));
+  }
+  check(res, { "status is 2xx": (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function teardown(data) {
+  http.del(`${BASE_URL}/batch`, JSON.stringify(data.ids), JSON_HEADERS);
+}
@@ -0,0 +1,50 @@
+package com.todo.todo_list.benchmark;
+
+import com.todo.todo_list.TodoListApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application without the web server on a private in-memory H2 database, so benchmarks measure the
+ * service and persistence code rather than the network or a shared database.
+ *
+ * @author by piyumi_navodani
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * This method is to start a fresh application context for one benchmark trial
+     * @param extraProperties additional key=value properties, e.g. to turn off JDBC batching
+     * @return context
+     */
+    public static ConfigurableApplicationContext start(final String... extraProperties) {
+        String database = "bench_" + UUID.randomUUID().toString().replace("-", "");
+        // Passed as command line arguments so they take precedence over application.properties. H2 is told to
+        // ignore the PostgreSQL driver settings configured for the pool.
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--todo.search.engine=memory"));
+        for (String property : extraProperties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(TodoListApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,155 @@
+package com.todo.todo_list.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.todo.todo_list.logging.SampledLogTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What logging costs the request thread for one list request: the controller and service lines, the closing
+ * line and, before the change, the page query that spring.jpa.show-sql printed. Lines go to a temporary file, flushed
+ * per line like the console.
+ *
+ * <ul>
+ *     <li>{@code before}: synchronous appender plus show-sql, the previous setup</li>
+ *     <li>{@code sync}: synchronous appender with the request MDC</li>
+ *     <li>{@code async}: the queue in logback-spring.xml, every request logged</li>
+ *     <li>{@code async-sampled}: the queue with 10% of successful requests logged</li>
+ * </ul>
+ *
+ * Run with several threads ({@code -t 8}) to see the synchronous appender's lock. A queue that stays full drops
+ * INFO lines, which the async scores include.
+ *
+ * @author by piyumi_navodani
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%15.15t] %-40.40logger{39} : "
+            + "requestId=%X{requestId:--} endpoint=\"%X{endpoint:--}\" durationMs=%X{durationMs:--} %m%n";
+    private static final String SQL = "select t1_0.id,t1_0.completed,t1_0.created_at,t1_0.description,"
+            + "t1_0.due_date,t1_0.priority_level,t1_0.title,t1_0.version from task t1_0 where t1_0.deleted=false "
+            + "order by t1_0.created_at desc,t1_0.id desc fetch first ? rows only";
+    private static final double SAMPLE_RATE = 0.1;
+
+    @Param({"before", "sync", "async", "async-sampled"})
+    public String pipeline;
+
+    private Path file;
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private Logger filterLog;
+    private PrintStream showSql;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("request-logging", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setName("FILE");
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (pipeline.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.addAppender(fileAppender);
+            async.start();
+            appender = async;
+        }
+        if ("async-sampled".equals(pipeline)) {
+            SampledLogTurboFilter filter = new SampledLogTurboFilter();
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+
+        controllerLog = context.getLogger("com.todo.todo_list.controller.TaskController");
+        serviceLog = context.getLogger("com.todo.todo_list.service.impl.TaskServiceImpl");
+        filterLog = context.getLogger("com.todo.todo_list.web.RequestLoggingFilter");
+        if ("before".equals(pipeline)) {
+            showSql = new PrintStream(new FileOutputStream(file.toFile(), true), true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        if (showSql != null) {
+            showSql.close();
+        }
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void listRequest() {
+        long start = System.nanoTime();
+        if (!"before".equals(pipeline)) {
+            MDC.put("requestId", UUID.randomUUID().toString());
+            MDC.put("endpoint", "GET /api/tasks");
+            if ("async-sampled".equals(pipeline) && ThreadLocalRandom.current().nextDouble() >= SAMPLE_RATE) {
+                MDC.put(SampledLogTurboFilter.SAMPLED, SampledLogTurboFilter.NOT_SAMPLED);
+            }
+        }
+        try {
+            controllerLog.info("TaskController.getTasks() started...");
+            serviceLog.info("TaskServiceImpl.getTasks() started.");
+            if (showSql != null) {
+                showSql.println("Hibernate: " + SQL);
+            }
+            if (!"before".equals(pipeline)) {
+                MDC.put("durationMs", Long.toString(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+                filterLog.info("Request completed with status {}.", 200);
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.todo.todo_list.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.todo_list.dto.BatchResultDto;
+import com.todo.todo_list.dto.ImportResultDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.CommentRepository;
+import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating a group of tasks through the batch endpoint's service method, the NDJSON import and one createTask
+ * call per task. Each invocation writes {@code size} tasks, so the scores compare directly.
+ *
+ * @author by piyumi_navodani
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBatchBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private CommentRepository commentRepository;
+    private byte[] ndjson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        StringBuilder lines = new StringBuilder();
+        for (Task task : newTasks()) {
+            lines.append(objectMapper.writeValueAsString(task)).append('\n');
+        }
+        ndjson = lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Keeps the table size, and with it the index depth, the same for every iteration.
+     */
+    @TearDown(Level.Iteration)
+    public void clear() {
+        commentRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BatchResultDto createInBatch() {
+        return taskService.createTasks(newTasks());
+    }
+
+    @Benchmark
+    public ImportResultDto importNdjson() {
+        return taskService.importTasks(new ByteArrayInputStream(ndjson));
+    }
+
+    @Benchmark
+    public void createOneByOne(Blackhole blackhole) {
+        for (Task task : newTasks()) {
+            blackhole.consume(taskService.createTask(task));
+        }
+    }
+
+    private List<Task> newTasks() {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(TaskServiceBenchmark.newTask("Batch task " + i));
+        }
+        return tasks;
+    }
+}
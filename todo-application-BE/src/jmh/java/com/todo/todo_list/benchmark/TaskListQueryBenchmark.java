@@ -0,0 +1,107 @@
+package com.todo.todo_list.benchmark;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.repository.specification.TaskSpecifications;
+import com.todo.todo_list.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The task list query: first page, second page through the cursor, a filtered page, and the list read through
+ * managed entities as it was before the TaskDto projection. Run with {@code -prof gc} to compare allocation per call.
+ *
+ * @author by piyumi_navodani
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000"})
+    public int taskCount;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private String secondPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        for (int offset = 0; offset < taskCount; offset += 1_000) {
+            List<Task> tasks = new ArrayList<>();
+            for (int i = offset; i < Math.min(taskCount, offset + 1_000); i++) {
+                Task task = TaskServiceBenchmark.newTask("Seeded task " + i);
+                task.setCompleted(i % 4 == 0);
+                tasks.add(task);
+            }
+            taskService.createTasks(tasks);
+        }
+        secondPageCursor = taskService.getTasks(null, null, null, null, null, null, PAGE_SIZE).getNextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskPageDto firstPage() {
+        return taskService.getTasks(null, null, null, null, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskPageDto secondPage() {
+        return taskService.getTasks(null, null, null, null, null, secondPageCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskPageDto overduePage() {
+        return taskService.getTasks(null, false, null, "overdue", null, null, PAGE_SIZE);
+    }
+
+    /**
+     * Baseline for the projection: the same page loaded as managed entities and mapped afterwards.
+     */
+    @Benchmark
+    public List<TaskDto> firstPageThroughEntities() {
+        return readOnlyTransaction.execute(status -> taskRepository
+                .findBy(TaskSpecifications.all(), query -> query.sortBy(TaskRepository.KEYSET_ORDER)
+                        .limit(PAGE_SIZE + 1)
+                        .all())
+                .stream()
+                .map(TaskDto::from)
+                .toList());
+    }
+}
@@ -0,0 +1,108 @@
+package com.todo.todo_list.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
+import com.todo.todo_list.entity.Comment;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.json.TaskJsonModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the task payloads, including the {@code @JsonFormat} dates, with an object mapper
+ * configured the way Spring Boot configures the one used by the controllers. {@code reflective} is the bean
+ * serializers Jackson builds on its own, {@code hand-written} the TaskJsonModule registered by the application;
+ * both write the same bytes. The entity has no hand-written serializer, so its score should not move.
+ *
+ * @author by piyumi_navodani
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    @Param({"reflective", "hand-written"})
+    public String serializers;
+
+    private ObjectMapper objectMapper;
+    private Task task;
+    private TaskDto taskDto;
+    private TaskPageDto page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("hand-written".equals(serializers)) {
+            builder.modulesToInstall(new TaskJsonModule());
+        }
+        objectMapper = builder.build();
+        task = newTask(0);
+        for (int i = 0; i < 3; i++) {
+            task.getComments().add(Comment.builder()
+                    .id(UUID.randomUUID())
+                    .text("Comment " + i)
+                    .timeStamp(LocalDateTime.now())
+                    .task(task)
+                    .build());
+        }
+        taskDto = TaskDto.from(task).toBuilder().commentCount(3L).build();
+        List<TaskDto> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(TaskDto.from(newTask(i)).toBuilder().commentCount((long) i).build());
+        }
+        page = TaskPageDto.builder().items(items).nextCursor("MjAyNS0wMS0wMVQwOTowMHwx").build();
+    }
+
+    @Benchmark
+    public byte[] taskEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] taskDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskDto);
+    }
+
+    @Benchmark
+    public byte[] taskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static Task newTask(int i) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Task " + i);
+        task.setDescription("Prepare the quarterly report and send it to the finance team");
+        task.setDueDate(LocalDate.of(2025, 1, 1).plusDays(i));
+        task.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i));
+        task.setUpdatedAt(LocalDateTime.of(2025, 1, 2, 9, 0).plusMinutes(i));
+        task.setPriority(TaskPriority.MEDIUM);
+        return task;
+    }
+}
@@ -0,0 +1,102 @@
+package com.todo.todo_list.benchmark;
+
+import com.todo.todo_list.dto.BatchItemResultDto;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Comment;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write paths of the task service: create, update, toggle and add comment, each a full service call
+ * including the transaction and the change event.
+ *
+ * @author by piyumi_navodani
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int SEEDED_TASKS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        List<Task> tasks = new ArrayList<>(SEEDED_TASKS);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            tasks.add(newTask("Seeded task " + i));
+        }
+        ids = taskService.createTasks(tasks).getResults().stream()
+                .map(BatchItemResultDto::getId)
+                .toArray(UUID[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return taskService.createTask(newTask("Benchmark task"));
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(randomId(), newTask("Updated task"));
+    }
+
+    @Benchmark
+    public TaskDto toggleCompletion() {
+        return taskService.toggleCompletion(randomId(), ThreadLocalRandom.current().nextBoolean());
+    }
+
+    @Benchmark
+    public Comment addComment() {
+        Comment comment = new Comment();
+        comment.setText("Benchmark comment");
+        return taskService.addComment(randomId(), comment);
+    }
+
+    private UUID randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Prepare the quarterly report and send it to the finance team");
+        task.setDueDate(LocalDate.now().plusDays(ThreadLocalRandom.current().nextInt(-10, 30)));
+        task.setPriority(TaskPriority.MEDIUM);
+        return task;
+    }
+}
@@ -0,0 +1,91 @@
+package com.todo.todo_list.benchmark;
+
+import com.todo.todo_list.entity.generator.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Batched inserts into a table keyed by UUID, with time-ordered (v7) against random (v4) keys. The table is
+ * pre-filled so the primary-key index is deeper than one page. Runs on H2 by default; pass
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://...} (plus user and password) to measure PostgreSQL instead.
+ *
+ * @author by piyumi_navodani
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int PREFILLED_ROWS = 200_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"v7", "random"})
+    public String keyType;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> keys;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:uuid_" + keyType + ";DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.jdbc.user", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        keys = "v7".equals(keyType) ? UuidV7::next : UUID::randomUUID;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS uuid_benchmark");
+            statement.execute("CREATE TABLE uuid_benchmark (id UUID PRIMARY KEY, title VARCHAR(255), created_at TIMESTAMP)");
+        }
+        insert = connection.prepareStatement(
+                "INSERT INTO uuid_benchmark (id, title, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)");
+        connection.setAutoCommit(false);
+        for (int i = 0; i < PREFILLED_ROWS / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE uuid_benchmark");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, keys.get());
+            insert.setString(2, "Benchmark task");
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
@@ -0,0 +1,97 @@
+package com.todo.todo_list.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.event.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache for task details (without comments). Entries leave by size, by age, or when the task service publishes
+ * a change for the task; the change event is handled after commit so a reader can not put the old row back
+ * while the write is still in flight.
+ *
+ * Cached DTOs are shared between requests, so callers must copy them before making changes.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@Slf4j
+public class TaskCache {
+
+    private final Cache<UUID, TaskDto> cache;
+    private final LongAdder invalidations = new LongAdder();
+
+    public TaskCache(@Value("${todo.cache.task.maximum-size:10000}") long maximumSize,
+                     @Value("${todo.cache.task.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        log.info("Task cache enabled. Maximum size: {}, TTL: {}", maximumSize, ttl);
+    }
+
+    /**
+     * This method is to return the cached task or load and cache it on a miss
+     * @param id
+     * @param loader
+     * @return taskDto
+     */
+    public TaskDto get(final UUID id, final Function<UUID, TaskDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * This method is to drop a task from the cache
+     * @param id
+     */
+    public void evict(final UUID id) {
+        cache.invalidate(id);
+        invalidations.increment();
+    }
+
+    /**
+     * This method is to drop the cached copy of every task that was written
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(event.taskId());
+    }
+
+    /**
+     * This method is to get the hit, miss and eviction counters
+     * @return stats
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return number of entries dropped because their task changed
+     */
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Exposes the underlying cache so it can be bound to metrics.
+     */
+    public Cache<UUID, TaskDto> nativeCache() {
+        return cache;
+    }
+}
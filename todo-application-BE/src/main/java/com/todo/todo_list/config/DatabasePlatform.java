@@ -0,0 +1,34 @@
+package com.todo.todo_list.config;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * @author by piyumi_navodani
+ */
+public enum DatabasePlatform {
+    POSTGRESQL,
+    H2,
+    OTHER;
+
+    /**
+     * This method is to find out which database the datasource points to
+     * @param dataSource
+     * @return platform
+     */
+    public static DatabasePlatform detect(final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                return POSTGRESQL;
+            }
+            if ("H2".equalsIgnoreCase(product)) {
+                return H2;
+            }
+            return OTHER;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to read database metadata", e);
+        }
+    }
+}
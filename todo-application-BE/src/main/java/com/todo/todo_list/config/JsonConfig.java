@@ -0,0 +1,28 @@
+package com.todo.todo_list.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.todo.todo_list.json.TaskJsonModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Configuration
+@Slf4j
+public class JsonConfig {
+
+    /**
+     * This method is to register the hand-written task serializers with the object mapper Spring Boot builds
+     * for the controllers, the change feed and the export. Turned off with todo.json.fast-serializers.enabled=false
+     * @return taskJsonModule
+     */
+    @Bean
+    @ConditionalOnProperty(name = "todo.json.fast-serializers.enabled", havingValue = "true", matchIfMissing = true)
+    public Module taskJsonModule() {
+        log.info("Serializing tasks and comments with the hand-written serializers.");
+        return new TaskJsonModule();
+    }
+}
@@ -0,0 +1,89 @@
+package com.todo.todo_list.config;
+
+import com.todo.todo_list.cache.TaskCache;
+import com.todo.todo_list.ingest.CommentWriteBehindBuffer;
+import com.todo.todo_list.metrics.SqlStatementCounter;
+import com.todo.todo_list.metrics.SqlStatementMetricsInterceptor;
+import com.todo.todo_list.purge.TaskPurger;
+import com.todo.todo_list.reminder.TaskReminderEngine;
+import com.todo.todo_list.web.ConcurrencyLimitFilter;
+import com.todo.todo_list.web.TaskChangeFeed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Application metrics on top of what Spring Boot already publishes (request latency, Hikari pool, Hibernate
+ * statistics): SQL statements per request, the task cache, the request concurrency limit, the comment
+ * write-behind buffer, the reminder schedule, the purge of deleted tasks and the change feed.
+ * Everything is scraped from /actuator/prometheus.
+ *
+ * @author by piyumi_navodani
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final SqlStatementMetricsInterceptor sqlStatementMetricsInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlStatementMetricsInterceptor).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public MeterBinder taskCacheMetrics(TaskCache taskCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, taskCache.nativeCache(), "task");
+    }
+
+    @Bean
+    public MeterBinder requestConcurrencyMetrics(ConcurrencyLimitFilter concurrencyLimitFilter) {
+        return registry -> Gauge.builder("todo.web.requests.available.permits", concurrencyLimitFilter,
+                        ConcurrencyLimitFilter::availablePermits)
+                .description("API requests that can still start without waiting")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder commentBufferMetrics(CommentWriteBehindBuffer commentWriteBehindBuffer) {
+        return registry -> Gauge.builder("todo.comments.buffer.pending", commentWriteBehindBuffer,
+                        CommentWriteBehindBuffer::pending)
+                .description("Accepted comments not written to the database yet")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder taskReminderMetrics(TaskReminderEngine taskReminderEngine) {
+        return registry -> Gauge.builder("todo.reminders.scheduled", taskReminderEngine,
+                        TaskReminderEngine::scheduledCount)
+                .description("Open tasks waiting for a due or overdue reminder")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder taskPurgeMetrics(TaskPurger taskPurger) {
+        return registry -> FunctionCounter.builder("todo.tasks.purged", taskPurger, TaskPurger::purgedCount)
+                .description("Deleted tasks removed by the background purge")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder taskChangeFeedMetrics(TaskChangeFeed taskChangeFeed) {
+        return registry -> Gauge.builder("todo.events.subscribers", taskChangeFeed, TaskChangeFeed::subscriberCount)
+                .description("Open task change feed connections")
+                .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.todo.todo_list.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Applies the PostgreSQL-only schema objects (GIN, trigram and partial indexes) and data migrations that cannot be
+ * expressed with JPA annotations, and is skipped on any other database. The scripts work on the tables Hibernate
+ * has just updated, so they run right after the EntityManagerFactory is built, while the context is still starting:
+ * before the task statistics are counted, before the web server accepts requests.
+ *
+ * Every script is written to be run on every start. A failing statement stops the application instead of leaving
+ * it to serve from a half-migrated schema; in particular the pg_trgm extension must either be installed already
+ * or be creatable by the application's user, since the search query needs it.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+@RequiredArgsConstructor
+public class PostgresSchemaInitializer implements InitializingBean {
+
+    private static final String SCRIPTS = "classpath*:db/postgres/*.sql";
+
+    private final DataSource dataSource;
+    private final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (DatabasePlatform.detect(dataSource) != DatabasePlatform.POSTGRESQL) {
+            log.info("Skipping PostgreSQL schema scripts, database is not PostgreSQL.");
+            return;
+        }
+        Resource[] scripts = resourcePatternResolver.getResources(SCRIPTS);
+        Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+        for (Resource script : scripts) {
+            log.info("Applying PostgreSQL schema script: {}", script.getFilename());
+            new ResourceDatabasePopulator(script).execute(dataSource);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.todo.todo_list.config;
+
+import com.todo.todo_list.datasource.ReadWriteRoutingDataSource;
+import com.todo.todo_list.web.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica routing, active when todo.datasource.replica.url is not blank. spring.datasource.* stays the
+ * primary; the replica gets its own pool from todo.datasource.replica.*. Read-only transactions (the list, detail,
+ * comment and export reads) go to the replica, writes and everything outside a transaction to the primary.
+ *
+ * Without the property the application keeps the single auto-configured data source.
+ *
+ * @author by piyumi_navodani
+ */
+@Configuration
+@ConditionalOnExpression("!'${todo.datasource.replica.url:}'.isBlank()")
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("todo.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("todo.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * This method is to build the data source used by JPA and the JDBC templates. The lazy proxy hands out a
+     * connection that only picks primary or replica when the first statement runs, after the transaction
+     * has been marked read-only
+     * @param primary
+     * @param replica
+     * @return dataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        log.info("Routing read-only transactions to the read replica.");
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+    }
+
+    /**
+     * This method is to give the connection back after every transaction. By default the session keeps its
+     * first connection until the request ends (open session in view), so a write that follows a read in the
+     * same request would still be on the replica connection
+     * @return hibernatePropertiesCustomizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransactionCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${todo.datasource.replica.read-your-writes-window:5s}") Duration window,
+            @Value("${todo.datasource.replica.read-your-writes-clients:100000}") long maximumClients) {
+        return new ReadYourWritesFilter(window, maximumClients);
+    }
+}
@@ -0,0 +1,45 @@
+package com.todo.todo_list.config;
+
+import com.todo.todo_list.search.InMemoryTaskSearchEngine;
+import com.todo.todo_list.search.PostgresTaskSearchEngine;
+import com.todo.todo_list.search.TaskSearchEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Configuration
+@Slf4j
+public class SearchConfig {
+
+    /**
+     * This method is to pick the search engine. With "auto" PostgreSQL gets the indexed full-text search
+     * and every other database falls back to the in-process index.
+     * @param engine auto, postgres or memory
+     * @param dataSource
+     * @param jdbcTemplate
+     * @return taskSearchEngine
+     */
+    @Bean
+    public TaskSearchEngine taskSearchEngine(@Value("${todo.search.engine:auto}") String engine,
+                                             DataSource dataSource,
+                                             JdbcTemplate jdbcTemplate) {
+        boolean postgres = switch (engine.toLowerCase()) {
+            case "postgres" -> true;
+            case "memory" -> false;
+            case "auto" -> DatabasePlatform.detect(dataSource) == DatabasePlatform.POSTGRESQL;
+            default -> throw new IllegalArgumentException("Unsupported todo.search.engine: " + engine);
+        };
+        log.info("Using {} task search engine.", postgres ? "PostgreSQL full-text" : "in-memory");
+        return postgres
+                ? new PostgresTaskSearchEngine(new NamedParameterJdbcTemplate(jdbcTemplate))
+                : new InMemoryTaskSearchEngine(jdbcTemplate);
+    }
+}
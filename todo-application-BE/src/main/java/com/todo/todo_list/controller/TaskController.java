@@ -1,13 +1,36 @@
 package com.todo.todo_list.controller;
 
+import com.todo.todo_list.dto.BatchResultDto;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.CommentPageDto;
+import com.todo.todo_list.dto.ImportResultDto;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
+import com.todo.todo_list.dto.TaskStatsDto;
 import com.todo.todo_list.entity.Comment;
 import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.export.TaskExportFormat;
 import com.todo.todo_list.service.TaskService;
+import com.todo.todo_list.web.TaskChangeFeed;
+import com.todo.todo_list.web.TaskETags;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -22,9 +45,14 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final boolean commentWriteBehind;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskChangeFeed taskChangeFeed,
+                          @Value("${todo.comments.write-behind.enabled:false}") boolean commentWriteBehind) {
         this.taskService = taskService;
+        this.taskChangeFeed = taskChangeFeed;
+        this.commentWriteBehind = commentWriteBehind;
     }
 
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
@@ -32,64 +60,138 @@ public class TaskController {
     /**
      * This is the endpoint to create a new to-do task
      * @param task
-     * @return Task
+     * @return taskDto
      */
     @PostMapping
-    public Task createTask(@RequestBody final Task task){
+    public TaskDto createTask(@RequestBody final Task task){
         log.info("TaskController.createTask() started...");
-        return taskService.createTask(task);
+        return TaskDto.from(taskService.createTask(task));
     }
 
     /**
      * This is the endpoint to edit a task
      * @param id
      * @param task
-     * @return Task
+     * @return taskDto
      */
     @PutMapping("/{id}")
-    public Task updateTask(@PathVariable final UUID id, @RequestBody Task task){
+    public TaskDto updateTask(@PathVariable final UUID id, @RequestBody Task task){
         log.info("TaskController.updateTask() started...");
-        return taskService.updateTask(id, task);
+        return TaskDto.from(taskService.updateTask(id, task));
     }
 
     /**
      * This is the end point to update the task as done by checked the checkbox
      * @param id
      * @param task
-     * @return Task
+     * @return taskDto
      */
     @PatchMapping("/{id}")
-    public Task toggleComplete(@PathVariable final UUID id, @RequestBody Task task){
+    public TaskDto toggleComplete(@PathVariable final UUID id, @RequestBody Task task){
         log.info("TaskController.toggleComplete() started...");
         return taskService.toggleCompletion(id, task.isCompleted());
     }
 
     /**
-     * This is the endpoint to get tasks list
+     * This is the endpoint to get tasks list. Without a search text the tasks come in the requested sort, one page at
+     * a time, with a cursor for the next page. With a search text the tasks matching it and the filters come ranked by
+     * relevance as a single page of the best matches; relevance has no stable keyset, so sort and cursor are rejected
+     * with 400 and the client narrows the search or the filters instead of paging
      * @param search
      * @param completed
      * @param dueDate
      * @param filterType
-     * @return tasksList
+     * @param sort createdAt (default), priority or dueDate; not allowed with a search text
+     * @param cursor continuation token returned with the previous page; not allowed with a search text
+     * @param size
+     * @return tasksPage
      */
     @GetMapping
-    public List<Task> getTasks(@RequestParam(required = false) String search,
-                               @RequestParam(required = false) Boolean completed,
-                               @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate dueDate,
-                               @RequestParam(required = false) String filterType){
+    public ResponseEntity<TaskPageDto> getTasks(@RequestParam(required = false) String search,
+                                                @RequestParam(required = false) Boolean completed,
+                                                @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate dueDate,
+                                                @RequestParam(required = false) String filterType,
+                                                @RequestParam(required = false) String sort,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer size){
         log.info("TaskController.getTasks() started...");
-        return taskService.getTasks(search, completed, dueDate, filterType);
+        TaskPageDto page = taskService.getTasks(search, completed, dueDate, filterType, sort, cursor, size);
+        // Spring answers a matching If-None-Match with 304 and skips writing the body.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(TaskETags.of(page))
+                .body(page);
     }
 
     /**
-     * This is the end point to get the task by task id
+     * This is the endpoint to follow task changes as Server-Sent Events: created, updated, toggled, deleted and
+     * commented, each sent once its transaction has committed, plus due and overdue reminders
+     * @param lastEventId sent by EventSource when it reconnects
+     * @return emitter
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId){
+        log.info("TaskController.streamChanges() started...");
+        return taskChangeFeed.subscribe(lastEventId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many subscribers"));
+    }
+
+    /**
+     * This is the endpoint to download all tasks matching the filters as NDJSON or CSV. The response is written
+     * while the tasks are read, so it works the same for any number of tasks
+     * @param format ndjson or csv
+     * @param completed
+     * @param dueDate
+     * @param filterType
+     * @param response
+     */
+    @GetMapping("/export")
+    public void exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                            @RequestParam(required = false) Boolean completed,
+                            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate dueDate,
+                            @RequestParam(required = false) String filterType,
+                            HttpServletResponse response) throws IOException {
+        log.info("TaskController.exportTasks() started...");
+        TaskExportFormat exportFormat = TaskExportFormat.fromName(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format));
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"");
+        taskService.exportTasks(completed, dueDate, filterType, exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * This is the end point to get the task counts for the dashboard: by completion state, by priority, and the
+     * open tasks that are overdue or due today
+     * @return taskStats
+     */
+    @GetMapping("/stats")
+    public TaskStatsDto getStatistics(){
+        log.info("TaskController.getStatistics() started...");
+        return taskService.getStatistics();
+    }
+
+    /**
+     * This is the end point to get the task by task id. The ETag is checked against the cached task before the
+     * comments are read, so a 304 costs no query on a cache hit
      * @param id
-     * @return task
+     * @param includeComments
+     * @param request
+     * @return taskDto
      */
     @GetMapping("/{id}")
-    public Task getTaskById(@PathVariable UUID id){
+    public ResponseEntity<TaskDto> getTaskById(@PathVariable UUID id,
+                                               @RequestParam(defaultValue = "false") boolean includeComments,
+                                               WebRequest request){
         log.info("TaskController.getTaskById() started...");
-        return taskService.getTaskById(id);
+        TaskDto task = taskService.getTaskDetails(id, false);
+        if (request.checkNotModified(TaskETags.of(task, includeComments))) {
+            return null;
+        }
+        if (includeComments) {
+            task = taskService.getTaskDetails(id, true);
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(task);
     }
 
     /**
@@ -103,14 +205,78 @@ public class TaskController {
     }
 
     /**
-     * This is the end point to add comments to the task
+     * This is the end point to add comments to the task. With write-behind enabled the comment is only queued
+     * and the answer is 202 Accepted; it becomes visible once the buffer is flushed
      * @param id
      * @param comment
-     * @return
+     * @return comment
      */
     @PostMapping("/{id}/comments")
-    public Task addComment(@PathVariable UUID id, @RequestBody Comment comment){
+    public ResponseEntity<CommentDto> addComment(@PathVariable UUID id, @RequestBody Comment comment){
         log.info("TaskController.addComment() started...");
-        return taskService.addComment(id, comment);
+        if (commentWriteBehind) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(taskService.queueComment(id, comment));
+        }
+        return ResponseEntity.ok(CommentDto.from(taskService.addComment(id, comment)));
+    }
+
+    /**
+     * This is the end point to get the comments of a task page by page
+     * @param id
+     * @param page
+     * @param size
+     * @return commentsPage
+     */
+    @GetMapping("/{id}/comments")
+    public CommentPageDto getComments(@PathVariable UUID id,
+                                      @RequestParam(required = false) Integer page,
+                                      @RequestParam(required = false) Integer size){
+        log.info("TaskController.getComments() started...");
+        return taskService.getComments(id, page, size);
+    }
+
+    /**
+     * This is the endpoint to create several tasks in one request
+     * @param tasks
+     * @return batchResult
+     */
+    @PostMapping("/batch")
+    public BatchResultDto createTasks(@RequestBody List<Task> tasks){
+        log.info("TaskController.createTasks() started...");
+        return taskService.createTasks(tasks);
+    }
+
+    /**
+     * This is the endpoint to import tasks from an NDJSON body, one task per line. The body is read while it
+     * arrives and saved in chunks, so it can be any size
+     * @param body
+     * @return importResult
+     */
+    @PostMapping("/import")
+    public ImportResultDto importTasks(InputStream body){
+        log.info("TaskController.importTasks() started...");
+        return taskService.importTasks(body);
+    }
+
+    /**
+     * This is the endpoint to edit several tasks in one request
+     * @param tasks
+     * @return batchResult
+     */
+    @PutMapping("/batch")
+    public BatchResultDto updateTasks(@RequestBody List<Task> tasks){
+        log.info("TaskController.updateTasks() started...");
+        return taskService.updateTasks(tasks);
+    }
+
+    /**
+     * This is the endpoint to delete several tasks in one request, e.g. clearing the completed tasks
+     * @param ids
+     * @return batchResult
+     */
+    @DeleteMapping("/batch")
+    public BatchResultDto deleteTasks(@RequestBody List<UUID> ids){
+        log.info("TaskController.deleteTasks() started...");
+        return taskService.deleteTasks(ids);
     }
 }
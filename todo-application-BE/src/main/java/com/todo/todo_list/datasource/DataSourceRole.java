@@ -0,0 +1,9 @@
+package com.todo.todo_list.datasource;
+
+/**
+ * @author by piyumi_navodani
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,41 @@
+package com.todo.todo_list.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. Work outside a transaction
+ * (schema updates, the in-memory index rebuilds) goes to the primary as well.
+ *
+ * The read-only flag is only known once the transaction has started, so this data source has to sit behind a
+ * LazyConnectionDataSourceProxy: the transaction manager gets a proxy connection first and the real one is
+ * picked here when the first statement runs.
+ *
+ * @author by piyumi_navodani
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRole();
+    }
+
+    /**
+     * This method is to get the data source the current thread would use for its next connection
+     * @return role
+     */
+    public static DataSourceRole currentRole() {
+        boolean replica = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRouting.isPrimaryRequired();
+        return replica ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+    }
+}
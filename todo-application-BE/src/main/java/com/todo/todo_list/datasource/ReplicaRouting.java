@@ -0,0 +1,57 @@
+package com.todo.todo_list.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override of the read routing. Read-only transactions normally go to the replica; while the
+ * override is set they go to the primary too, for callers that can not accept a lagging copy.
+ *
+ * @author by piyumi_navodani
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * This method is to check whether reads on the current thread must go to the primary
+     * @return primaryRequired
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+
+    /**
+     * This method is to send every read on the current thread to the primary until the returned scope is closed
+     * @return scope restoring the previous routing on close
+     */
+    public static Scope requirePrimary() {
+        boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return () -> {
+            if (previous) {
+                PRIMARY_REQUIRED.set(Boolean.TRUE);
+            } else {
+                PRIMARY_REQUIRED.remove();
+            }
+        };
+    }
+
+    /**
+     * This method is to run the action with all of its reads on the primary
+     * @param action
+     * @return result of the action
+     */
+    public static <T> T onPrimary(final Supplier<T> action) {
+        try (Scope ignored = requirePrimary()) {
+            return action.get();
+        }
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,22 @@
+package com.todo.todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchItemResultDto {
+    private int index;
+    private UUID id;
+    private boolean success;
+    private String error;
+}
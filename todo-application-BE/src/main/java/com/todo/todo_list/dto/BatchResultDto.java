@@ -0,0 +1,31 @@
+package com.todo.todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchResultDto {
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResultDto> results;
+
+    /**
+     * This method is to build the summary from the per-item results
+     * @param results
+     * @return batchResult
+     */
+    public static BatchResultDto of(final List<BatchItemResultDto> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResultDto::isSuccess).count();
+        return new BatchResultDto(succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,34 @@
+package com.todo.todo_list.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.todo.todo_list.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentDto {
+    private UUID id;
+    private String text;
+    @JsonFormat(pattern = "MMM dd, yyyy HH:mm", timezone = "Asia/Colombo")
+    private LocalDateTime timeStamp;
+
+    /**
+     * This method is to map a saved comment
+     * @param comment
+     * @return commentDto
+     */
+    public static CommentDto from(final Comment comment) {
+        return new CommentDto(comment.getId(), comment.getText(), comment.getTimeStamp());
+    }
+}
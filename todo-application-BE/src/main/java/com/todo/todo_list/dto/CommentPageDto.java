@@ -0,0 +1,22 @@
+package com.todo.todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentPageDto {
+    private List<CommentDto> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
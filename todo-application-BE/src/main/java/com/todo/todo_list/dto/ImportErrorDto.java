@@ -0,0 +1,18 @@
+package com.todo.todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportErrorDto {
+    private long line;
+    private String error;
+}
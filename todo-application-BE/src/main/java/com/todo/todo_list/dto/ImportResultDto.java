@@ -0,0 +1,23 @@
+package com.todo.todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportResultDto {
+    private long lines;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private List<ImportErrorDto> errors;
+}
@@ -1,24 +1,62 @@
 package com.todo.todo_list.dto;
 
-import jakarta.persistence.Column;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 /**
+ * Read model of a task. List and detail queries select straight into this class, so no entity is managed
+ * and comments are only present when they were asked for.
+ *
  * @author by piyumi_navodani
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class TaskDto {
-    private Integer taskId;
-    private String taskName;
-    private String taskDescription;
-    private Boolean taskStatus;
-    private LocalDateTime createdDate;
+    private UUID id;
+    private String title;
+    private String description;
+    private LocalDate dueDate;
+    private boolean completed;
+    @JsonFormat(pattern = "MMM dd, yyyy HH:mm", timezone = "Asia/Colombo")
+    private LocalDateTime createdAt;
+    @JsonFormat(pattern = "MMM dd, yyyy HH:mm", timezone = "Asia/Colombo")
+    private LocalDateTime updatedAt;
+    private TaskPriority priority;
+    private Long version;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CommentDto> comments;
+
+    /**
+     * Constructor used by the projection queries.
+     */
+    public TaskDto(UUID id, String title, String description, LocalDate dueDate, boolean completed,
+                   LocalDateTime createdAt, LocalDateTime updatedAt, TaskPriority priority, Long version,
+                   Long commentCount) {
+        this(id, title, description, dueDate, completed, createdAt, updatedAt, priority, version, commentCount, null);
+    }
+
+    /**
+     * This method is to map a task that was just written. Its comments are not read, so they are left out
+     * @param task
+     * @return taskDto
+     */
+    public static TaskDto from(final Task task) {
+        return new TaskDto(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+                task.isCompleted(), task.getCreatedAt(), task.getUpdatedAt(), task.getPriority(), task.getVersion(), null);
+    }
 }
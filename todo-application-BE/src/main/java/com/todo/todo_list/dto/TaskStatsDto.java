@@ -0,0 +1,26 @@
+package com.todo.todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatsDto {
+    private long total;
+    private long completed;
+    private long open;
+    private long overdue;
+    private long dueToday;
+    private Map<String, Long> byPriority;
+    private LocalDate date;
+}
@@ -2,12 +2,14 @@ package com.todo.todo_list.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.todo.todo_list.entity.generator.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -17,22 +19,27 @@ import java.util.UUID;
  */
 
 @Entity
+@Table(indexes = @Index(name = "idx_comment_task_id_time_stamp", columnList = "task_id, time_stamp, id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class Comment {
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @TimeOrderedUuid
     private UUID id;
 
     private String text;
     @JsonFormat(pattern = "MMM dd, yyyy HH:mm", timezone = "Asia/Colombo")
     private LocalDateTime timeStamp;
 
+    /**
+     * The database removes the comments of a deleted task, including any the write-behind flush inserted
+     * while the delete was running.
+     */
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Task task;
 }
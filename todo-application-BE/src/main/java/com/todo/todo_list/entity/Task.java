@@ -1,9 +1,12 @@
 package com.todo.todo_list.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.todo.todo_list.entity.generator.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,17 +15,28 @@ import java.util.List;
 import java.util.UUID;
 
 /**
+ * Deleted tasks are tombstoned first ({@code deleted = true}) and removed later by the TaskPurger. Every entity
+ * query skips tombstones through the restriction below; native queries on the task table have to add
+ * {@code deleted = FALSE} themselves. On PostgreSQL the list indexes are partial on that predicate.
+ *
  * @author by piyumi_navodani
  */
 
 @Entity
+@SQLRestriction("deleted = false")
+@Table(indexes = {
+        @Index(name = "idx_task_completed_due_date", columnList = "completed, due_date"),
+        @Index(name = "idx_task_completed_created_at", columnList = "completed, created_at DESC, id DESC"),
+        @Index(name = "idx_task_due_date_created_at", columnList = "due_date, created_at, id"),
+        @Index(name = "idx_task_created_at", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_task_priority_created_at", columnList = "priority_level DESC, created_at DESC, id DESC")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 public class Task {
 
     @Id
-    @GeneratedValue(generator = "UUID")
-    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @TimeOrderedUuid
     private UUID id;
 
     private String title;
@@ -33,7 +47,22 @@ public class Task {
     private LocalDateTime createdAt;
     @JsonFormat(pattern = "MMM dd, yyyy HH:mm", timezone = "Asia/Colombo")
     private LocalDateTime updatedAt;
-    private String priority;
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(name = "priority_level", nullable = false)
+    @ColumnDefault("0")
+    private TaskPriority priority = TaskPriority.NONE;
+
+    /**
+     * Incremented on every write. A stale value in an update is rejected instead of overwriting the newer row.
+     */
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
+    @JsonIgnore
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean deleted;
 
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Comment> comments = new ArrayList<>();
@@ -70,12 +99,12 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
-    public String getPriority() {
+    public TaskPriority getPriority() {
         return priority;
     }
 
-    public void setPriority(String priority) {
-        this.priority = priority;
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority == null ? TaskPriority.NONE : priority;
     }
 
     public boolean isCompleted() {
@@ -109,4 +138,20 @@ public class Task {
     public void setId(UUID id) {
         this.id = id;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
 }
@@ -0,0 +1,74 @@
+package com.todo.todo_list.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+/**
+ * Priority of a task, stored as a SMALLINT level. Higher levels sort first when the list is ordered by priority.
+ * A task without a priority is {@code NONE} (level 0) rather than NULL, so the column and its index have no
+ * NULLs to place and every database orders them the same way. In JSON it is still written as null.
+ *
+ * @author by piyumi_navodani
+ */
+public enum TaskPriority {
+    NONE(0),
+    LOW(1),
+    MEDIUM(2),
+    HIGH(3);
+
+    private static final TaskPriority[] BY_LEVEL = values();
+
+    private final short level;
+
+    TaskPriority(int level) {
+        this.level = (short) level;
+    }
+
+    public short getLevel() {
+        return level;
+    }
+
+    /**
+     * This method is to get the lower-case name used in JSON and in the statistics
+     * @return label
+     */
+    public String getLabel() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    @JsonValue
+    public String toJson() {
+        return this == NONE ? null : getLabel();
+    }
+
+    /**
+     * This method is to resolve the priority sent by a client, ignoring case
+     * @param value
+     * @return priority, NONE when no value is given
+     */
+    @JsonCreator
+    public static TaskPriority from(final String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        try {
+            return TaskPriority.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported priority: " + value);
+        }
+    }
+
+    /**
+     * This method is to resolve the priority stored in the database
+     * @param level
+     * @return priority
+     */
+    public static TaskPriority fromLevel(final short level) {
+        if (level < 0 || level >= BY_LEVEL.length) {
+            throw new IllegalArgumentException("Unsupported priority level: " + level);
+        }
+        return BY_LEVEL[level];
+    }
+}
@@ -0,0 +1,24 @@
+package com.todo.todo_list.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link TaskPriority} as its SMALLINT level instead of the enum name or ordinal, so the stored value
+ * does not change when constants are renamed or reordered.
+ *
+ * @author by piyumi_navodani
+ */
+@Converter
+public class TaskPriorityConverter implements AttributeConverter<TaskPriority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskPriority priority) {
+        return (priority == null ? TaskPriority.NONE : priority).getLevel();
+    }
+
+    @Override
+    public TaskPriority convertToEntityAttribute(Short level) {
+        return level == null ? TaskPriority.NONE : TaskPriority.fromLevel(level);
+    }
+}
@@ -0,0 +1,54 @@
+package com.todo.todo_list.entity.generator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID (RFC 9562 version 7): 48 bits of Unix milliseconds, a 12-bit counter and 62 random bits.
+ * Ids from this process are strictly increasing, so inserts land at the right edge of the primary-key index
+ * instead of on random pages.
+ *
+ * @author by piyumi_navodani
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * Last issued (milliseconds, counter) pair. When the counter overflows within one millisecond it carries into
+     * the timestamp, and a clock moving backwards keeps counting from the last value.
+     */
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(final long epochMillis) {
+        long stamp = LAST_STAMP.updateAndGet(previous -> Math.max(epochMillis << COUNTER_BITS, previous + 1));
+        long millis = stamp >>> COUNTER_BITS;
+        long counter = stamp & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (millis << 16) | VERSION | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * This method is to read the creation time back from a version 7 id
+     * @param uuid
+     * @return epochMillis
+     */
+    public static long timestamp(final UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,12 @@
+package com.todo.todo_list.event;
+
+/**
+ * @author by piyumi_navodani
+ */
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    TOGGLED,
+    DELETED,
+    COMMENTED
+}
@@ -0,0 +1,112 @@
+package com.todo.todo_list.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published by the task service after a task has been written. It carries an immutable copy of the
+ * task state so listeners never touch the managed entity, and for updates and deletes the state the
+ * task had before, so listeners can adjust aggregates without reading the task again.
+ *
+ * @author by piyumi_navodani
+ */
+public record TaskChangedEvent(TaskChangeType type,
+                               UUID taskId,
+                               String title,
+                               String description,
+                               LocalDate dueDate,
+                               boolean completed,
+                               TaskPriority priority,
+                               @JsonIgnore TaskState previous) {
+
+    public TaskChangedEvent(TaskChangeType type, UUID taskId, String title, String description,
+                            LocalDate dueDate, boolean completed, TaskPriority priority) {
+        this(type, taskId, title, description, dueDate, completed, priority, null);
+    }
+
+    /**
+     * This method is to build the event from the saved task
+     * @param type
+     * @param task
+     * @return event
+     */
+    public static TaskChangedEvent of(final TaskChangeType type, final Task task) {
+        return of(type, task, null);
+    }
+
+    /**
+     * This method is to build the event from the saved task and the state it had before the change
+     * @param type
+     * @param task
+     * @param previous
+     * @return event
+     */
+    public static TaskChangedEvent of(final TaskChangeType type, final Task task, final TaskState previous) {
+        return new TaskChangedEvent(type, task.getId(), task.getTitle(), task.getDescription(),
+                task.getDueDate(), task.isCompleted(), task.getPriority(), previous);
+    }
+
+    /**
+     * This method is to build the event from a task row returned by an update statement
+     * @param type
+     * @param task
+     * @return event
+     */
+    public static TaskChangedEvent of(final TaskChangeType type, final TaskDto task) {
+        return new TaskChangedEvent(type, task.getId(), task.getTitle(), task.getDescription(),
+                task.getDueDate(), task.isCompleted(), task.getPriority());
+    }
+
+    /**
+     * This method is to build the event for a completion flag that was flipped. The toggle statement only writes
+     * when the flag changes, so the previous state is the same row with the other flag
+     * @param task
+     * @return event
+     */
+    public static TaskChangedEvent toggled(final TaskDto task) {
+        return new TaskChangedEvent(TaskChangeType.TOGGLED, task.getId(), task.getTitle(), task.getDescription(),
+                task.getDueDate(), task.isCompleted(), task.getPriority(),
+                new TaskState(!task.isCompleted(), task.getPriority(), task.getDueDate()));
+    }
+
+    /**
+     * This method is to build the event for a removed task
+     * @param taskId
+     * @return event
+     */
+    public static TaskChangedEvent deleted(final UUID taskId) {
+        return deleted(taskId, null);
+    }
+
+    /**
+     * This method is to build the event for a removed task and the state it had
+     * @param taskId
+     * @param previous
+     * @return event
+     */
+    public static TaskChangedEvent deleted(final UUID taskId, final TaskState previous) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, taskId, null, null, null, false, null, previous);
+    }
+
+    /**
+     * This method is to build the event for a new comment on a task
+     * @param taskId
+     * @return event
+     */
+    public static TaskChangedEvent commented(final UUID taskId) {
+        return new TaskChangedEvent(TaskChangeType.COMMENTED, taskId, null, null, null, false, null);
+    }
+
+    /**
+     * This method is to get the state of the task after the change
+     * @return state
+     */
+    public TaskState current() {
+        return new TaskState(completed, priority, dueDate);
+    }
+}
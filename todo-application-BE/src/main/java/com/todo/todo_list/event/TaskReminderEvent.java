@@ -0,0 +1,13 @@
+package com.todo.todo_list.event;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published by the reminder engine when an open task reaches its due date ({@code DUE}) and when that day has
+ * passed without the task being completed ({@code OVERDUE}).
+ *
+ * @author by piyumi_navodani
+ */
+public record TaskReminderEvent(TaskReminderType type, UUID taskId, LocalDate dueDate) {
+}
@@ -0,0 +1,9 @@
+package com.todo.todo_list.event;
+
+/**
+ * @author by piyumi_navodani
+ */
+public enum TaskReminderType {
+    DUE,
+    OVERDUE
+}
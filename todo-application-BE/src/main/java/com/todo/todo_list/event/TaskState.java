@@ -0,0 +1,33 @@
+package com.todo.todo_list.event;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+
+import java.time.LocalDate;
+
+/**
+ * The fields of a task that the task statistics are grouped by.
+ *
+ * @author by piyumi_navodani
+ */
+public record TaskState(boolean completed, TaskPriority priority, LocalDate dueDate) {
+
+    /**
+     * This method is to capture the state of a task before it is changed
+     * @param task
+     * @return state
+     */
+    public static TaskState of(final Task task) {
+        return new TaskState(task.isCompleted(), task.getPriority(), task.getDueDate());
+    }
+
+    /**
+     * This method is to capture the state of a task row
+     * @param task
+     * @return state
+     */
+    public static TaskState of(final TaskDto task) {
+        return new TaskState(task.isCompleted(), task.getPriority(), task.getDueDate());
+    }
+}
@@ -0,0 +1,39 @@
+package com.todo.todo_list.export;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Output formats of the task export.
+ *
+ * @author by piyumi_navodani
+ */
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * This method is to find the format for a request parameter, ignoring case
+     * @param name
+     * @return format
+     */
+    public static Optional<TaskExportFormat> fromName(String name) {
+        return Arrays.stream(values()).filter(format -> format.name().equalsIgnoreCase(name)).findFirst();
+    }
+}
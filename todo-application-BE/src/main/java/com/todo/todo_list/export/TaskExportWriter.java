@@ -0,0 +1,134 @@
+package com.todo.todo_list.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todo.todo_list.dto.TaskDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported tasks one at a time to an output stream. Nothing is kept after a task is written, so the
+ * writer uses the same memory for any number of tasks. {@link #flush()} must be called at the end; the stream
+ * itself is left open.
+ *
+ * @author by piyumi_navodani
+ */
+public abstract class TaskExportWriter {
+
+    private static final String CSV_HEADER =
+            "id,title,description,dueDate,completed,createdAt,updatedAt,priority,version,commentCount";
+
+    /**
+     * This method is to open a writer for the given format
+     * @param format
+     * @param objectMapper used for NDJSON, so lines look like the task API responses
+     * @param out
+     * @return writer
+     */
+    public static TaskExportWriter open(TaskExportFormat format, ObjectMapper objectMapper, OutputStream out)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(objectMapper, out);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    public abstract void write(TaskDto task) throws IOException;
+
+    public abstract void flush() throws IOException;
+
+    private static final class NdjsonWriter extends TaskExportWriter {
+        private final ObjectWriter objectWriter;
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            // Flushing after every task would turn each line into its own network write.
+            this.objectWriter = objectMapper.writerFor(TaskDto.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(TaskDto task) throws IOException {
+            objectWriter.writeValue(generator, task);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvWriter extends TaskExportWriter {
+        private final Writer writer;
+
+        private CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(TaskDto task) throws IOException {
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writeText(task.getTitle());
+            writer.write(',');
+            writeText(task.getDescription());
+            writer.write(',');
+            writeValue(task.getDueDate());
+            writer.write(',');
+            writer.write(String.valueOf(task.isCompleted()));
+            writer.write(',');
+            writeValue(task.getCreatedAt());
+            writer.write(',');
+            writeValue(task.getUpdatedAt());
+            writer.write(',');
+            writeText(task.getPriority() == null ? null : task.getPriority().toJson());
+            writer.write(',');
+            writeValue(task.getVersion());
+            writer.write(',');
+            writeValue(task.getCommentCount());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+
+        /**
+         * Quotes the value (RFC 4180) when it contains a separator, a quote or a line break.
+         */
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
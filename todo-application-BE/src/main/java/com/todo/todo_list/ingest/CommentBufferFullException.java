@@ -0,0 +1,13 @@
+package com.todo.todo_list.ingest;
+
+/**
+ * Thrown when the write-behind comment buffer can not take another comment in time, or is shutting down.
+ *
+ * @author by piyumi_navodani
+ */
+public class CommentBufferFullException extends RuntimeException {
+
+    public CommentBufferFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,237 @@
+package com.todo.todo_list.ingest;
+
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind ingestion for comments. Accepted comments wait in a bounded queue and a single flusher thread
+ * writes them with one batched INSERT per flush, once {@code flush-size} comments are waiting or
+ * {@code flush-interval} has passed. When the queue is full, callers wait up to {@code offer-timeout} and are then
+ * rejected. On shutdown the web server first finishes its in-flight requests; then the queue stops accepting and
+ * is drained before the database goes away.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@Slf4j
+public class CommentWriteBehindBuffer implements SmartLifecycle {
+
+    private static final String INSERT_COMMENT = "INSERT INTO comment (id, text, time_stamp, task_id) VALUES (?, ?, ?, ?)";
+
+    private final boolean enabled;
+    private final BlockingQueue<PendingComment> queue;
+    private final int flushSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final Duration shutdownTimeout;
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CommentWriteBehindBuffer(@Value("${todo.comments.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${todo.comments.write-behind.capacity:10000}") int capacity,
+                                    @Value("${todo.comments.write-behind.flush-size:100}") int flushSize,
+                                    @Value("${todo.comments.write-behind.flush-interval:200ms}") Duration flushInterval,
+                                    @Value("${todo.comments.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+                                    @Value("${todo.comments.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout,
+                                    TaskRepository taskRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flushSize = flushSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.offerTimeoutMillis = offerTimeout.toMillis();
+        this.shutdownTimeout = shutdownTimeout;
+        this.taskRepository = taskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * This method is to queue a comment for the next flush
+     * @param comment
+     * @throws CommentBufferFullException when the buffer stays full for the offer timeout or is shutting down
+     */
+    public void offer(final PendingComment comment) {
+        if (!running) {
+            throw new CommentBufferFullException("Comment buffer is not accepting comments.");
+        }
+        boolean accepted;
+        try {
+            accepted = queue.offer(comment, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            log.warn("Comment buffer is full ({} waiting). Rejecting comment for task {}.", queue.size(), comment.taskId());
+            throw new CommentBufferFullException("Comment buffer is full.");
+        }
+        // stop() may have run between the check above and the enqueue, and the flusher may already have seen an
+        // empty queue and exited. While running is still true the flusher will drain the comment; otherwise take
+        // it back, and if the flusher got to it first it is written by the final drain.
+        if (!running && queue.remove(comment)) {
+            throw new CommentBufferFullException("Comment buffer is not accepting comments.");
+        }
+    }
+
+    /**
+     * This method is to return the number of comments waiting to be written
+     * @return pending
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("comment-write-behind").daemon(true).start(this::flushLoop);
+        log.info("Comment write-behind started. Flush size: {}, interval: {} ms, capacity: {}",
+                flushSize, flushIntervalMillis, queue.remainingCapacity());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("Comment write-behind stopped with {} comments not written.", queue.size());
+        } else {
+            log.info("Comment write-behind drained and stopped.");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Started before the web server and therefore stopped after it, so comments accepted by in-flight requests
+     * during a graceful shutdown are still queued and drained. The data source is closed later still, when the
+     * beans are destroyed.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    private void flushLoop() {
+        List<PendingComment> batch = new ArrayList<>(flushSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // stop() does not interrupt the flusher, it lets the poll time out. Should anything else interrupt
+                // it, whatever is queued is still drained below and the loop carries on.
+                queue.drainTo(batch, flushSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first comment, then keeps collecting until the batch is full or the flush interval is over.
+     */
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        PendingComment first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < flushSize) {
+            queue.drainTo(batch, flushSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= flushSize || remaining <= 0) {
+                return;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void flush(List<PendingComment> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+        } catch (RuntimeException e) {
+            // Most likely a task was deleted between the existence check and the insert; retry one by one
+            // so only the comments of that task are lost.
+            log.warn("Batched comment flush of {} comments failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingComment comment : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(comment)));
+                } catch (RuntimeException single) {
+                    log.error("Dropping comment {} for task {}: {}", comment.id(), comment.taskId(), single.getMessage());
+                }
+            }
+        }
+    }
+
+    private void write(List<PendingComment> batch) {
+        Set<UUID> taskIds = batch.stream().map(PendingComment::taskId).collect(Collectors.toSet());
+        Set<UUID> existing = new HashSet<>(taskRepository.findExistingIds(taskIds));
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (PendingComment comment : batch) {
+            if (existing.contains(comment.taskId())) {
+                rows.add(new Object[]{comment.id(), comment.text(), Timestamp.valueOf(comment.timeStamp()), comment.taskId()});
+            } else {
+                log.warn("Task {} was deleted before comment {} was written. Dropping it.", comment.taskId(), comment.id());
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_COMMENT, rows);
+        existing.forEach(taskId -> eventPublisher.publishEvent(TaskChangedEvent.commented(taskId)));
+        log.info("Flushed {} comments for {} tasks.", rows.size(), existing.size());
+    }
+}
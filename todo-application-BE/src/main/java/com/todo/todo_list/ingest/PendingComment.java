@@ -0,0 +1,12 @@
+package com.todo.todo_list.ingest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A comment that has been acknowledged to the client but not written yet.
+ *
+ * @author by piyumi_navodani
+ */
+public record PendingComment(UUID id, UUID taskId, String text, LocalDateTime timeStamp) {
+}
@@ -0,0 +1,55 @@
+package com.todo.todo_list.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.todo.todo_list.dto.CommentDto;
+
+import java.io.IOException;
+
+/**
+ * Writes a CommentDto field by field, in the order and format the reflective serializer uses.
+ *
+ * @author by piyumi_navodani
+ */
+public class CommentDtoSerializer extends StdSerializer<CommentDto> implements ContextualSerializer {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TEXT = new SerializedString("text");
+    private static final SerializedString TIME_STAMP = new SerializedString("timeStamp");
+
+    private final DisplayDateTimeFormat dateTimeFormat;
+
+    public CommentDtoSerializer() {
+        this(null);
+    }
+
+    private CommentDtoSerializer(DisplayDateTimeFormat dateTimeFormat) {
+        super(CommentDto.class);
+        this.dateTimeFormat = dateTimeFormat;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        return new CommentDtoSerializer(DisplayDateTimeFormat.of(provider.getLocale()));
+    }
+
+    @Override
+    public void serialize(CommentDto comment, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        DisplayDateTimeFormat format = dateTimeFormat != null
+                ? dateTimeFormat
+                : DisplayDateTimeFormat.of(provider.getLocale());
+        gen.writeStartObject(comment);
+        gen.writeFieldName(ID);
+        TaskDtoSerializer.writeUuid(comment.getId(), gen);
+        gen.writeFieldName(TEXT);
+        gen.writeString(comment.getText());
+        gen.writeFieldName(TIME_STAMP);
+        format.write(comment.getTimeStamp(), gen);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,92 @@
+package com.todo.todo_list.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code "MMM dd, yyyy HH:mm"} format of the task and comment time stamps, written digit by digit into a
+ * char array that goes straight to the generator, instead of through DateTimeFormatter and a String for every
+ * value. The month names are taken from a
+ * DateTimeFormatter once per locale, so they match what the formatter prints.
+ *
+ * The Asia/Colombo zone of the {@code @JsonFormat} never changes a LocalDateTime, which has no instant to
+ * convert; it is kept on the fallback formatter only so both paths are built from the same settings. Years
+ * outside 1 to 9999, which the pattern prints with a sign or more digits, go through that formatter.
+ *
+ * @author by piyumi_navodani
+ */
+final class DisplayDateTimeFormat {
+
+    static final String PATTERN = "MMM dd, yyyy HH:mm";
+    static final ZoneId ZONE = ZoneId.of("Asia/Colombo");
+
+    private static final Map<Locale, DisplayDateTimeFormat> BY_LOCALE = new ConcurrentHashMap<>();
+    // " dd, yyyy HH:mm" after the month name.
+    private static final int DIGITS_LENGTH = 15;
+
+    private final DateTimeFormatter formatter;
+    private final char[][] months = new char[12][];
+
+    private DisplayDateTimeFormat(Locale locale) {
+        this.formatter = DateTimeFormatter.ofPattern(PATTERN, locale).withZone(ZONE);
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM", locale);
+        for (int month = 1; month <= 12; month++) {
+            months[month - 1] = monthFormatter.format(LocalDate.of(2000, month, 1)).toCharArray();
+        }
+    }
+
+    /**
+     * This method is to return the format for the locale of the object mapper
+     * @param locale
+     * @return format
+     */
+    static DisplayDateTimeFormat of(final Locale locale) {
+        return BY_LOCALE.computeIfAbsent(locale, DisplayDateTimeFormat::new);
+    }
+
+    /**
+     * This method is to write a time stamp, or null, as a JSON string
+     * @param value
+     * @param gen
+     */
+    void write(final LocalDateTime value, final JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 1 || year > 9999) {
+            gen.writeString(formatter.format(value));
+            return;
+        }
+        char[] month = months[value.getMonthValue() - 1];
+        char[] buffer = new char[month.length + DIGITS_LENGTH];
+        System.arraycopy(month, 0, buffer, 0, month.length);
+        int i = month.length;
+        buffer[i++] = ' ';
+        i = twoDigits(buffer, i, value.getDayOfMonth());
+        buffer[i++] = ',';
+        buffer[i++] = ' ';
+        i = twoDigits(buffer, i, year / 100);
+        i = twoDigits(buffer, i, year % 100);
+        buffer[i++] = ' ';
+        i = twoDigits(buffer, i, value.getHour());
+        buffer[i++] = ':';
+        i = twoDigits(buffer, i, value.getMinute());
+        gen.writeString(buffer, 0, i);
+    }
+
+    private static int twoDigits(final char[] buffer, final int at, final int value) {
+        buffer[at] = (char) ('0' + value / 10);
+        buffer[at + 1] = (char) ('0' + value % 10);
+        return at + 2;
+    }
+}
@@ -0,0 +1,136 @@
+package com.todo.todo_list.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.TaskPriority;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes a TaskDto field by field, in the order and format the reflective serializer uses: every field, nulls
+ * included, except commentCount and comments, which are left out when null. The due date goes through the mapper's
+ * own LocalDate serializer, so it still follows WRITE_DATES_AS_TIMESTAMPS; the serializers it needs are looked up
+ * once, when the mapper first meets the type.
+ *
+ * @author by piyumi_navodani
+ */
+public class TaskDtoSerializer extends StdSerializer<TaskDto> implements ContextualSerializer {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializedString COMPLETED = new SerializedString("completed");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString COMMENT_COUNT = new SerializedString("commentCount");
+    private static final SerializedString COMMENTS = new SerializedString("comments");
+
+    private final DisplayDateTimeFormat dateTimeFormat;
+    private final JsonSerializer<Object> dateSerializer;
+    private final JsonSerializer<Object> commentSerializer;
+
+    public TaskDtoSerializer() {
+        this(null, null, null);
+    }
+
+    private TaskDtoSerializer(DisplayDateTimeFormat dateTimeFormat, JsonSerializer<Object> dateSerializer,
+                              JsonSerializer<Object> commentSerializer) {
+        super(TaskDto.class);
+        this.dateTimeFormat = dateTimeFormat;
+        this.dateSerializer = dateSerializer;
+        this.commentSerializer = commentSerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        return new TaskDtoSerializer(DisplayDateTimeFormat.of(provider.getLocale()),
+                provider.findValueSerializer(LocalDate.class, property),
+                provider.findValueSerializer(CommentDto.class, property));
+    }
+
+    @Override
+    public void serialize(TaskDto task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (dateTimeFormat == null) {
+            // Only reached when called directly, without going through the mapper's serializer lookup.
+            ((TaskDtoSerializer) createContextual(provider, null)).serialize(task, gen, provider);
+            return;
+        }
+        gen.writeStartObject(task);
+        gen.writeFieldName(ID);
+        writeUuid(task.getId(), gen);
+        gen.writeFieldName(TITLE);
+        gen.writeString(task.getTitle());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(task.getDescription());
+        gen.writeFieldName(DUE_DATE);
+        if (task.getDueDate() == null) {
+            gen.writeNull();
+        } else {
+            dateSerializer.serialize(task.getDueDate(), gen, provider);
+        }
+        gen.writeFieldName(COMPLETED);
+        gen.writeBoolean(task.isCompleted());
+        gen.writeFieldName(CREATED_AT);
+        dateTimeFormat.write(task.getCreatedAt(), gen);
+        gen.writeFieldName(UPDATED_AT);
+        dateTimeFormat.write(task.getUpdatedAt(), gen);
+        gen.writeFieldName(PRIORITY);
+        TaskPriority priority = task.getPriority();
+        gen.writeString(priority == null ? null : priority.toJson());
+        gen.writeFieldName(VERSION);
+        writeLong(task.getVersion(), gen);
+        if (task.getCommentCount() != null) {
+            gen.writeFieldName(COMMENT_COUNT);
+            gen.writeNumber(task.getCommentCount());
+        }
+        if (task.getComments() != null) {
+            gen.writeFieldName(COMMENTS);
+            writeComments(task.getComments(), gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeComments(List<CommentDto> comments, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        gen.writeStartArray(comments, comments.size());
+        for (CommentDto comment : comments) {
+            if (comment == null) {
+                gen.writeNull();
+            } else {
+                commentSerializer.serialize(comment, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    static void writeUuid(final UUID id, final JsonGenerator gen) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(id.toString());
+        }
+    }
+
+    private static void writeLong(final Long value, final JsonGenerator gen) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
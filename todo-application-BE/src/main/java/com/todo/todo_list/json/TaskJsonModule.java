@@ -0,0 +1,20 @@
+package com.todo.todo_list.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.TaskDto;
+
+/**
+ * Hand-written serializers for the task and comment payloads, in place of the reflective bean serializers.
+ * The output is the same byte for byte; TaskJsonModuleTest compares the two.
+ *
+ * @author by piyumi_navodani
+ */
+public class TaskJsonModule extends SimpleModule {
+
+    public TaskJsonModule() {
+        super("TaskJsonModule");
+        addSerializer(TaskDto.class, new TaskDtoSerializer());
+        addSerializer(CommentDto.class, new CommentDtoSerializer());
+    }
+}
@@ -0,0 +1,30 @@
+package com.todo.todo_list.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Drops the INFO and lower lines of requests that were not picked for logging, before the message is formatted
+ * or queued. The request filter makes the choice once per request and records it in the MDC, so a request is
+ * logged completely or not at all. Warnings, errors and anything with an exception always pass, as does every
+ * line logged outside a request.
+ *
+ * @author by piyumi_navodani
+ */
+public class SampledLogTurboFilter extends TurboFilter {
+
+    public static final String SAMPLED = "sampled";
+    public static final String NOT_SAMPLED = "false";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || t != null) {
+            return FilterReply.NEUTRAL;
+        }
+        return NOT_SAMPLED.equals(MDC.get(SAMPLED)) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,87 @@
+package com.todo.todo_list.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and {@link #stop()}.
+ * Windows may nest, e.g. a test measuring a request that the metrics interceptor measures as well; each
+ * {@link #stop()} reports the statements since its own {@link #start()}. Outside of a window statements pass
+ * through untouched.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Window> WINDOW = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Window window = WINDOW.get();
+        if (window != null) {
+            window.count++;
+        }
+        return sql;
+    }
+
+    /**
+     * This method is to start counting the statements of the current thread
+     */
+    public void start() {
+        Window window = WINDOW.get();
+        if (window == null) {
+            window = new Window();
+            WINDOW.set(window);
+        }
+        window.push();
+    }
+
+    /**
+     * This method is to return the statements counted since the innermost open window started
+     * @return count
+     */
+    public int current() {
+        Window window = WINDOW.get();
+        return window == null ? 0 : window.count - window.peek();
+    }
+
+    /**
+     * This method is to close the innermost window on the current thread
+     * @return statements counted since the matching start
+     */
+    public int stop() {
+        Window window = WINDOW.get();
+        if (window == null) {
+            return 0;
+        }
+        int count = window.count - window.pop();
+        if (window.depth == 0) {
+            WINDOW.remove();
+        }
+        return count;
+    }
+
+    private static final class Window {
+        private int count;
+        private int depth;
+        private int[] marks = new int[4];
+
+        private void push() {
+            if (depth == marks.length) {
+                marks = Arrays.copyOf(marks, depth * 2);
+            }
+            marks[depth++] = count;
+        }
+
+        private int peek() {
+            return marks[depth - 1];
+        }
+
+        private int pop() {
+            return marks[--depth];
+        }
+    }
+}
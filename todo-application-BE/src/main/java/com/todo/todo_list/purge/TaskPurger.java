@@ -0,0 +1,145 @@
+package com.todo.todo_list.purge;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Soft delete and the background purge behind it. With soft delete on, deleting a task only tombstones its row
+ * in one statement; the row and its comments are removed here later, in batches of {@code batch-size} tasks, one
+ * transaction per batch, so no request waits for the comments to go and no purge holds locks for long.
+ *
+ * The purge runs whether or not soft delete is on, so tombstones left from before a switch to hard delete are
+ * still cleared. Tombstoned tasks already left the caches, indexes and statistics when they were deleted, so
+ * purging them publishes nothing.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@Slf4j
+public class TaskPurger {
+
+    private static final String TOMBSTONES = "SELECT id FROM task WHERE deleted = TRUE LIMIT ?";
+    private static final String DELETE_COMMENTS = "DELETE FROM comment WHERE task_id IN (:ids)";
+    private static final String DELETE_TASKS = "DELETE FROM task WHERE id IN (:ids) AND deleted = TRUE";
+
+    private final boolean softDelete;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long intervalMillis;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LongAdder purged = new LongAdder();
+
+    private ScheduledExecutorService ticker;
+
+    public TaskPurger(@Value("${todo.tasks.soft-delete.enabled:true}") boolean softDelete,
+                      @Value("${todo.tasks.purge.batch-size:500}") int batchSize,
+                      @Value("${todo.tasks.purge.max-batches-per-run:100}") int maxBatchesPerRun,
+                      @Value("${todo.tasks.purge.interval:1m}") Duration interval,
+                      JdbcTemplate jdbcTemplate,
+                      TransactionTemplate transactionTemplate) {
+        this.softDelete = softDelete;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.intervalMillis = interval.toMillis();
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public boolean isSoftDeleteEnabled() {
+        return softDelete;
+    }
+
+    /**
+     * This method is to start the periodic purge once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-purger").daemon(true).factory());
+        ticker.scheduleWithFixedDelay(this::purgeQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Task purge started. Soft delete: {}, batch size: {}, interval: {} ms",
+                softDelete, batchSize, intervalMillis);
+    }
+
+    /**
+     * This method is to remove tombstoned tasks and their comments, one batch per transaction, until none are
+     * left or max-batches-per-run batches have been purged
+     * @return number of purged tasks
+     */
+    public int purge() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer count = transactionTemplate.execute(status -> purgeBatch());
+            int purgedInBatch = count == null ? 0 : count;
+            total += purgedInBatch;
+            if (purgedInBatch < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            purged.add(total);
+            log.info("Purged {} deleted tasks.", total);
+        }
+        return total;
+    }
+
+    /**
+     * This method is to return the number of tasks purged since startup
+     * @return purged tasks
+     */
+    public long purgedCount() {
+        return purged.sum();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    private int purgeBatch() {
+        List<UUID> ids = jdbcTemplate.queryForList(TOMBSTONES, UUID.class, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<UUID>> params = Map.of("ids", ids);
+        // Comments first: they reference the task rows.
+        namedJdbcTemplate.update(DELETE_COMMENTS, params);
+        namedJdbcTemplate.update(DELETE_TASKS, params);
+        return ids.size();
+    }
+
+    /**
+     * A failure must not end the periodic purge, so it is logged and the next run tries again.
+     */
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.error("Task purge failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.todo.todo_list.reminder;
+
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.event.TaskReminderEvent;
+import com.todo.todo_list.event.TaskReminderType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires {@link TaskReminderEvent}s for open tasks whose due date arrives or passes. Only open tasks that can
+ * still fire are held, ordered by due date, so a check looks at the days that have started since the last check
+ * and touches nothing else: its cost follows the number of reminders fired, not the number of tasks.
+ *
+ * The schedule is loaded once at startup and kept in line with committed task changes. A task that is completed,
+ * deleted or given another due date leaves its old slot, and a due date moved to today or earlier is not
+ * announced, since the user has just set it. Reminders of days that passed while the application was down are
+ * not sent after a restart.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@Slf4j
+public class TaskReminderEngine {
+
+    private static final String OPEN_TASKS_DUE_FROM =
+            "SELECT id, due_date FROM task WHERE completed = FALSE AND deleted = FALSE AND due_date >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long checkIntervalMillis;
+
+    private final NavigableMap<LocalDate, Set<UUID>> schedule = new TreeMap<>();
+    private final Map<UUID, LocalDate> dueDates = new HashMap<>();
+    // The last day that has been checked. Tasks due on it have had their DUE reminder.
+    private LocalDate checkedThrough;
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public TaskReminderEngine(JdbcTemplate jdbcTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${todo.reminders.check-interval:1m}") Duration checkInterval) {
+        this(jdbcTemplate, eventPublisher, Clock.systemDefaultZone(), checkInterval);
+    }
+
+    TaskReminderEngine(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher, Clock clock,
+                       Duration checkInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.checkIntervalMillis = checkInterval.toMillis();
+    }
+
+    /**
+     * This method is to load the open tasks that are due today or later once the application has started, and
+     * to start the periodic check
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        synchronized (this) {
+            if (ticker == null) {
+                ticker = Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("task-reminders").daemon(true).factory());
+                ticker.scheduleWithFixedDelay(this::checkQuietly, checkIntervalMillis, checkIntervalMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * This method is to reload the schedule from the database
+     */
+    public synchronized void rebuild() {
+        log.info("TaskReminderEngine.rebuild() started.");
+        schedule.clear();
+        dueDates.clear();
+        checkedThrough = LocalDate.now(clock);
+        jdbcTemplate.query(OPEN_TASKS_DUE_FROM, (RowCallbackHandler) rs ->
+                add(rs.getObject("id", UUID.class), rs.getDate("due_date").toLocalDate()), Date.valueOf(checkedThrough));
+        log.info("Reminder schedule rebuilt with {} open tasks.", dueDates.size());
+    }
+
+    /**
+     * This method is to keep the schedule in line with committed task changes
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.COMMENTED || checkedThrough == null) {
+            return;
+        }
+        remove(event.taskId());
+        if (event.type() != TaskChangeType.DELETED && !event.completed() && event.dueDate() != null
+                && !event.dueDate().isBefore(checkedThrough)) {
+            add(event.taskId(), event.dueDate());
+        }
+    }
+
+    /**
+     * This method is to fire the reminders of every day that started since the last check. On each new day the
+     * tasks due that day get a DUE reminder, and the tasks due the day before that are still open get an OVERDUE
+     * reminder and leave the schedule
+     * @return number of reminders fired
+     */
+    public int check() {
+        List<TaskReminderEvent> fired = new ArrayList<>();
+        synchronized (this) {
+            LocalDate today = LocalDate.now(clock);
+            if (checkedThrough == null || !today.isAfter(checkedThrough)) {
+                return 0;
+            }
+            Iterator<Map.Entry<LocalDate, Set<UUID>>> days =
+                    schedule.subMap(checkedThrough, true, today, true).entrySet().iterator();
+            while (days.hasNext()) {
+                Map.Entry<LocalDate, Set<UUID>> day = days.next();
+                LocalDate dueDate = day.getKey();
+                if (dueDate.isAfter(checkedThrough)) {
+                    day.getValue().forEach(id -> fired.add(new TaskReminderEvent(TaskReminderType.DUE, id, dueDate)));
+                }
+                if (dueDate.isBefore(today)) {
+                    day.getValue().forEach(id -> {
+                        fired.add(new TaskReminderEvent(TaskReminderType.OVERDUE, id, dueDate));
+                        dueDates.remove(id);
+                    });
+                    days.remove();
+                }
+            }
+            checkedThrough = today;
+        }
+        // Published outside the lock, so listeners can not hold up task changes.
+        fired.forEach(eventPublisher::publishEvent);
+        if (!fired.isEmpty()) {
+            log.info("Fired {} task reminders.", fired.size());
+        }
+        return fired.size();
+    }
+
+    /**
+     * This method is to return the number of open tasks waiting for a reminder
+     * @return scheduled tasks
+     */
+    public synchronized int scheduledCount() {
+        return dueDates.size();
+    }
+
+    /**
+     * This method is to return the due date a task is scheduled under
+     * @param taskId
+     * @return dueDate, or null when the task has no pending reminder
+     */
+    public synchronized LocalDate scheduledDate(final UUID taskId) {
+        return dueDates.get(taskId);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * A failure must not end the periodic check, so it is logged and the next run tries again.
+     */
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.error("Task reminder check failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void add(UUID id, LocalDate dueDate) {
+        dueDates.put(id, dueDate);
+        schedule.computeIfAbsent(dueDate, day -> new LinkedHashSet<>()).add(id);
+    }
+
+    private void remove(UUID id) {
+        LocalDate dueDate = dueDates.remove(id);
+        if (dueDate == null) {
+            return;
+        }
+        Set<UUID> ids = schedule.get(dueDate);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            schedule.remove(dueDate);
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.todo.todo_list.repository;
 
+import com.todo.todo_list.dto.CommentDto;
 import com.todo.todo_list.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -12,4 +19,22 @@ import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
+
+    /**
+     * This method is to read one page of a task's comments as DTOs without a count query
+     * @param taskId
+     * @param pageable
+     * @return commentsSlice
+     */
+    @Query("select new com.todo.todo_list.dto.CommentDto(c.id, c.text, c.timeStamp) from Comment c where c.task.id = :taskId")
+    Slice<CommentDto> findDtosByTaskId(@Param("taskId") UUID taskId, Pageable pageable);
+
+    /**
+     * This method is to remove the comments of several tasks with one statement
+     * @param taskIds
+     * @return deletedCount
+     */
+    @Modifying
+    @Query("delete from Comment c where c.task.id in :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
 }
@@ -1,9 +1,20 @@
 package com.todo.todo_list.repository;
 
+import com.todo.todo_list.dto.TaskDto;
 import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.specification.TaskCursor;
+import com.todo.todo_list.repository.specification.TaskSort;
+import com.todo.todo_list.repository.specification.TaskSpecifications;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,6 +22,36 @@ import java.util.UUID;
  * @author by piyumi_navodani
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-    List<Task> findTop5ByOrderByCreatedAtDesc();
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+    Sort KEYSET_ORDER = TaskSort.CREATED_AT.getOrder();
+
+    /**
+     * This method is to read one keyset page in the given order, continuing after the cursor row, so no rows
+     * are skipped with OFFSET. In the due date order the dated tasks are read first and the page is topped up
+     * from the undated ones, each part with its own predicate on the (due_date, created_at, id) index
+     * @param filter
+     * @param sort
+     * @param after cursor of the previous page, or null for the first page
+     * @param limit
+     * @return taskDtos
+     */
+    default List<TaskDto> findPage(Specification<Task> filter, TaskSort sort, TaskCursor after, int limit) {
+        Specification<Task> spec = filter.and(TaskSpecifications.after(after));
+        if (sort != TaskSort.DUE_DATE) {
+            return findDtos(spec, sort.getOrder(), limit);
+        }
+        if (after != null && after.dueDate() == null) {
+            return findDtos(spec, sort.getOrder(), limit);
+        }
+        List<TaskDto> rows = findDtos(spec.and(TaskSpecifications.hasDueDate()), sort.getOrder(), limit);
+        if (rows.size() >= limit) {
+            return rows;
+        }
+        List<TaskDto> page = new ArrayList<>(rows);
+        page.addAll(findDtos(filter.and(TaskSpecifications.noDueDate()), sort.getOrder(), limit - rows.size()));
+        return page;
+    }
+
+    @Query("select t.id from Task t where t.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,94 @@
+package com.todo.todo_list.repository;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Projection queries that select task rows straight into {@link TaskDto}, and single-statement writes that
+ * return the written row the same way.
+ *
+ * @author by piyumi_navodani
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * This method is to read the tasks matching the specification as DTOs
+     * @param spec
+     * @param sort
+     * @param limit maximum number of rows, or a negative value for no limit
+     * @return taskDtos
+     */
+    List<TaskDto> findDtos(Specification<Task> spec, Sort sort, int limit);
+
+    /**
+     * This method is to read one task as a DTO, without its comments
+     * @param id
+     * @return taskDto
+     */
+    Optional<TaskDto> findDtoById(UUID id);
+
+    /**
+     * This method is to read every task matching the specification as DTOs over a forward-only cursor, in
+     * (createdAt, id) order. Rows are fetched fetchSize at a time and nothing is kept in the persistence context,
+     * so memory does not grow with the number of tasks. Must be called, and the stream consumed and closed,
+     * inside a transaction
+     * @param spec
+     * @param fetchSize
+     * @return taskDtos
+     */
+    Stream<TaskDto> streamDtos(Specification<Task> spec, int fetchSize);
+
+    /**
+     * This method is to set the completion flag with one conditional UPDATE that returns the new row.
+     * The row is only written, and its version and updatedAt bumped, when the flag actually changes
+     * @param id
+     * @param completed
+     * @param updatedAt
+     * @return the updated task (without comment count), or empty when the task is missing or already in that state
+     */
+    Optional<TaskDto> updateCompleted(UUID id, boolean completed, LocalDateTime updatedAt);
+
+    /**
+     * This method is to delete one task with a single statement that returns the deleted row. Comments must be
+     * deleted first
+     * @param id
+     * @return the deleted task (without comment count), or empty when there was no such task
+     */
+    Optional<TaskDto> deleteReturning(UUID id);
+
+    /**
+     * This method is to delete several tasks with a single statement that returns the deleted rows. Comments must
+     * be deleted first
+     * @param ids
+     * @return the tasks this statement deleted (without comment count); ids that were missing, or deleted by
+     *         someone else first, are not in it
+     */
+    List<TaskDto> deleteAllReturning(Collection<UUID> ids);
+
+    /**
+     * This method is to soft delete one task with a single statement that returns the row. The task and its
+     * comments stay in place until the TaskPurger removes them, but no entity query finds the task any more
+     * @param id
+     * @param updatedAt
+     * @return the tombstoned task (without comment count), or empty when there was no such live task
+     */
+    Optional<TaskDto> tombstoneReturning(UUID id, LocalDateTime updatedAt);
+
+    /**
+     * This method is to soft delete several tasks with a single statement that returns the tombstoned rows
+     * @param ids
+     * @param updatedAt
+     * @return the tasks this statement tombstoned (without comment count); ids that were missing, or deleted by
+     *         someone else first, are not in it
+     */
+    List<TaskDto> tombstoneAllReturning(Collection<UUID> ids, LocalDateTime updatedAt);
+}
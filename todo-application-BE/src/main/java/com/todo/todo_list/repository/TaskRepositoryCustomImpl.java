@@ -0,0 +1,271 @@
+package com.todo.todo_list.repository;
+
+import com.todo.todo_list.config.DatabasePlatform;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Comment;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * @author by piyumi_navodani
+ */
+@Transactional(readOnly = true)
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String TASK_COLUMNS =
+            "id, title, description, due_date, completed, created_at, updated_at, priority_level, version";
+    private static final String DELETE_TASKS = "DELETE FROM task WHERE id IN (:ids) AND deleted = FALSE";
+    private static final String TOMBSTONE_TASKS =
+            "UPDATE task SET deleted = TRUE, updated_at = :updatedAt, version = version + 1 "
+                    + "WHERE id IN (:ids) AND deleted = FALSE";
+    private static final String SET_COMPLETED =
+            "UPDATE task SET completed = :completed, updated_at = :updatedAt, version = version + 1 "
+                    + "WHERE id = :id AND completed <> :completed AND deleted = FALSE";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+    private volatile DatabasePlatform platform;
+
+    public TaskRepositoryCustomImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<TaskDto> findDtos(Specification<Task> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDto> query = cb.createQuery(TaskDto.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(projection(cb, query, root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        TypedQuery<TaskDto> typedQuery = entityManager.createQuery(query);
+        if (limit >= 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Optional<TaskDto> findDtoById(UUID id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDto> query = cb.createQuery(TaskDto.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(projection(cb, query, root)).where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).setMaxResults(1).getResultList().stream().findFirst();
+    }
+
+    @Override
+    public Stream<TaskDto> streamDtos(Specification<Task> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDto> query = cb.createQuery(TaskDto.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(projection(cb, query, root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+        // Hibernate streams over a FORWARD_ONLY scroll. PostgreSQL only honours the fetch size inside a
+        // transaction; otherwise the driver reads the whole result before the first row is returned.
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    @Transactional
+    public Optional<TaskDto> updateCompleted(UUID id, boolean completed, LocalDateTime updatedAt) {
+        String sql = switch (platform()) {
+            case POSTGRESQL -> SET_COMPLETED + " RETURNING " + TASK_COLUMNS;
+            case H2 -> "SELECT " + TASK_COLUMNS + " FROM FINAL TABLE (" + SET_COMPLETED + ")";
+            case OTHER -> null;
+        };
+        if (sql == null) {
+            return updateCompletedThenRead(id, completed, updatedAt);
+        }
+        NativeQuery<Object[]> query = taskRowQuery(sql);
+        query.setParameter("id", id)
+                .setParameter("completed", completed)
+                .setParameter("updatedAt", updatedAt);
+        return query.getResultList().stream().findFirst().map(TaskRepositoryCustomImpl::toDto);
+    }
+
+    @Override
+    @Transactional
+    public Optional<TaskDto> deleteReturning(UUID id) {
+        return deleteAllReturning(List.of(id)).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<TaskDto> deleteAllReturning(Collection<UUID> ids) {
+        String sql = switch (platform()) {
+            case POSTGRESQL -> DELETE_TASKS + " RETURNING " + TASK_COLUMNS;
+            case H2 -> "SELECT " + TASK_COLUMNS + " FROM OLD TABLE (" + DELETE_TASKS + ")";
+            case OTHER -> null;
+        };
+        List<TaskDto> deleted;
+        if (sql == null) {
+            deleted = changedOneByOne(ids, "delete from Task t where t.id = :id and t.deleted = false", null);
+        } else {
+            entityManager.flush();
+            deleted = taskRowQuery(sql).setParameter("ids", ids).getResultList().stream()
+                    .map(TaskRepositoryCustomImpl::toDto)
+                    .toList();
+        }
+        // Like a bulk delete, the statement bypasses the persistence context, which may still hold the tasks.
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public Optional<TaskDto> tombstoneReturning(UUID id, LocalDateTime updatedAt) {
+        return tombstoneAllReturning(List.of(id), updatedAt).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<TaskDto> tombstoneAllReturning(Collection<UUID> ids, LocalDateTime updatedAt) {
+        String sql = switch (platform()) {
+            case POSTGRESQL -> TOMBSTONE_TASKS + " RETURNING " + TASK_COLUMNS;
+            case H2 -> "SELECT " + TASK_COLUMNS + " FROM FINAL TABLE (" + TOMBSTONE_TASKS + ")";
+            case OTHER -> null;
+        };
+        List<TaskDto> tombstoned;
+        if (sql == null) {
+            tombstoned = changedOneByOne(ids, "update Task t set t.deleted = true, t.updatedAt = :updatedAt, "
+                    + "t.version = t.version + 1 where t.id = :id and t.deleted = false", updatedAt);
+        } else {
+            entityManager.flush();
+            tombstoned = taskRowQuery(sql).setParameter("ids", ids)
+                    .setParameter("updatedAt", updatedAt)
+                    .getResultList().stream()
+                    .map(TaskRepositoryCustomImpl::toDto)
+                    .toList();
+        }
+        // The persistence context may still hold the live tasks, which the restriction would no longer find.
+        entityManager.clear();
+        return tombstoned;
+    }
+
+    /**
+     * Databases without RETURNING read each task and then run the conditional statement for it. A task only counts
+     * as changed when its statement changed a row, so a concurrent delete of the same task is not reported twice.
+     */
+    private List<TaskDto> changedOneByOne(Collection<UUID> ids, String jpql, LocalDateTime updatedAt) {
+        List<TaskDto> changed = new ArrayList<>();
+        for (UUID id : ids) {
+            Optional<TaskDto> task = findDtoById(id);
+            if (task.isEmpty()) {
+                continue;
+            }
+            Query statement = entityManager.createQuery(jpql).setParameter("id", id);
+            if (updatedAt != null) {
+                statement.setParameter("updatedAt", updatedAt);
+            }
+            if (statement.executeUpdate() == 1) {
+                changed.add(task.get());
+            }
+        }
+        return changed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Object[]> taskRowQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("due_date", LocalDate.class)
+                .addScalar("completed", Boolean.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("priority_level", Short.class)
+                .addScalar("version", Long.class);
+    }
+
+    private static TaskDto toDto(Object[] row) {
+        return new TaskDto((UUID) row[0], (String) row[1], (String) row[2], (LocalDate) row[3],
+                (Boolean) row[4], (LocalDateTime) row[5], (LocalDateTime) row[6],
+                TaskPriority.fromLevel((Short) row[7]), (Long) row[8], null);
+    }
+
+    /**
+     * Databases without UPDATE ... RETURNING still get an atomic conditional update, followed by a read.
+     */
+    private Optional<TaskDto> updateCompletedThenRead(UUID id, boolean completed, LocalDateTime updatedAt) {
+        int updated = entityManager.createQuery("update Task t set t.completed = :completed, t.updatedAt = :updatedAt, "
+                        + "t.version = t.version + 1 where t.id = :id and t.completed <> :completed and t.deleted = false")
+                .setParameter("id", id)
+                .setParameter("completed", completed)
+                .setParameter("updatedAt", updatedAt)
+                .executeUpdate();
+        return updated == 0 ? Optional.empty() : findDtoById(id);
+    }
+
+    private DatabasePlatform platform() {
+        DatabasePlatform detected = platform;
+        if (detected == null) {
+            detected = DatabasePlatform.detect(dataSource);
+            platform = detected;
+        }
+        return detected;
+    }
+
+    /**
+     * The comment count is a correlated sub-select on the (task_id, ...) comment index, so the list
+     * stays one statement and no comment row is read.
+     */
+    private CompoundSelection<TaskDto> projection(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Task> root) {
+        Subquery<Long> commentCount = query.subquery(Long.class);
+        Root<Comment> comment = commentCount.from(Comment.class);
+        commentCount.select(cb.count(comment)).where(cb.equal(comment.get("task"), root));
+        return cb.construct(TaskDto.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("dueDate"),
+                root.get("completed"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("priority"),
+                root.get("version"),
+                commentCount);
+    }
+}
@@ -0,0 +1,92 @@
+package com.todo.todo_list.repository.specification;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.TaskPriority;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last task of a page in the keyset order of a {@link TaskSort}: the sort key of that order, if
+ * it has one, followed by (createdAt, id). A null due date means the position is among the undated tasks.
+ * The token handed to clients is opaque; only this class knows how it is built.
+ *
+ * @author by piyumi_navodani
+ */
+public record TaskCursor(TaskSort sort, TaskPriority priority, LocalDate dueDate, LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NO_DUE_DATE = "-";
+
+    /**
+     * Cursor of the default (createdAt, id) order.
+     */
+    public TaskCursor(LocalDateTime createdAt, UUID id) {
+        this(TaskSort.CREATED_AT, null, null, createdAt, id);
+    }
+
+    /**
+     * This method is to build the cursor that continues after the given row
+     * @param sort
+     * @param last
+     * @return cursor
+     */
+    public static TaskCursor of(final TaskSort sort, final TaskDto last) {
+        return switch (sort) {
+            case CREATED_AT -> new TaskCursor(last.getCreatedAt(), last.getId());
+            case PRIORITY -> new TaskCursor(sort, last.getPriority(), null, last.getCreatedAt(), last.getId());
+            case DUE_DATE -> new TaskCursor(sort, null, last.getDueDate(), last.getCreatedAt(), last.getId());
+        };
+    }
+
+    /**
+     * This method is to encode the cursor as an opaque continuation token. Tokens of the default order keep
+     * their original two-part form, so pages handed out before sorting existed still continue
+     * @return token
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        if (sort == TaskSort.PRIORITY) {
+            raw = sort.name() + SEPARATOR + priority.name() + SEPARATOR + raw;
+        } else if (sort == TaskSort.DUE_DATE) {
+            raw = sort.name() + SEPARATOR + (dueDate == null ? NO_DUE_DATE : dueDate) + SEPARATOR + raw;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method is to decode a continuation token received from a client
+     * @param token
+     * @return cursor or null when no token is given
+     */
+    public static TaskCursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length == 2) {
+                return new TaskCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+            }
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            TaskSort sort = TaskSort.valueOf(parts[0]);
+            LocalDateTime createdAt = LocalDateTime.parse(parts[2]);
+            UUID id = UUID.fromString(parts[3]);
+            return switch (sort) {
+                case PRIORITY -> new TaskCursor(sort, TaskPriority.valueOf(parts[1]), null, createdAt, id);
+                case DUE_DATE -> new TaskCursor(sort, null,
+                        NO_DUE_DATE.equals(parts[1]) ? null : LocalDate.parse(parts[1]), createdAt, id);
+                case CREATED_AT -> throw new IllegalArgumentException("Invalid cursor: " + token);
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
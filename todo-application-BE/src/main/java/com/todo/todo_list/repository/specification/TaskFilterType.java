@@ -0,0 +1,26 @@
+package com.todo.todo_list.repository.specification;
+
+/**
+ * @author by piyumi_navodani
+ */
+public enum TaskFilterType {
+    TODAY,
+    OVERDUE,
+    UPCOMING;
+
+    /**
+     * This method is to resolve the filter type from the request parameter
+     * @param value
+     * @return filterType or null when no filter is requested
+     */
+    public static TaskFilterType from(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return TaskFilterType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported filter type: " + value);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.todo.todo_list.repository.specification;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Orders offered by the task list. Each one ends with (createdAt, id) so it is a total order that keyset paging
+ * can continue from, and each one matches the column order of a task index, so pages are read in index order
+ * and the database never sorts:
+ * <ul>
+ *     <li>{@code CREATED_AT}: newest first, on idx_task_created_at</li>
+ *     <li>{@code PRIORITY}: highest priority first, then newest, on idx_task_priority_created_at</li>
+ *     <li>{@code DUE_DATE}: earliest due date first, then oldest, on idx_task_due_date_created_at. Tasks without
+ *     a due date follow the dated ones and are read with a separate predicate, so the result does not depend on
+ *     where the database sorts NULLs</li>
+ * </ul>
+ *
+ * @author by piyumi_navodani
+ */
+public enum TaskSort {
+    CREATED_AT("createdAt", Sort.by(Sort.Direction.DESC, "createdAt", "id")),
+    PRIORITY("priority", Sort.by(Sort.Direction.DESC, "priority", "createdAt", "id")),
+    DUE_DATE("dueDate", Sort.by(Sort.Direction.ASC, "dueDate", "createdAt", "id"));
+
+    private final String parameter;
+    private final Sort order;
+
+    TaskSort(String parameter, Sort order) {
+        this.parameter = parameter;
+        this.order = order;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public Sort getOrder() {
+        return order;
+    }
+
+    /**
+     * This method is to resolve the sort order from the request parameter
+     * @param value createdAt, priority or dueDate
+     * @return sort, CREATED_AT when no sort is requested
+     */
+    public static TaskSort from(final String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED_AT;
+        }
+        for (TaskSort sort : values()) {
+            if (sort.parameter.equalsIgnoreCase(value.trim()) || sort.name().equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + value);
+    }
+}
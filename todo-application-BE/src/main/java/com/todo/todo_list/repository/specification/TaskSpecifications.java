@@ -0,0 +1,131 @@
+package com.todo.todo_list.repository.specification;
+
+import com.todo.todo_list.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Predicates for the task list. Each predicate is backed by one of the indexes declared on {@link Task}.
+ *
+ * @author by piyumi_navodani
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * This method is to build the combined filter for the tasks list
+     * @param completed
+     * @param dueDate
+     * @param filterType
+     * @param today
+     * @return specification
+     */
+    public static Specification<Task> filter(final Boolean completed, final LocalDate dueDate,
+                                             final TaskFilterType filterType, final LocalDate today) {
+        Specification<Task> spec = all();
+        if (completed != null) {
+            spec = spec.and(hasCompleted(completed));
+        }
+        if (dueDate != null) {
+            spec = spec.and(dueOn(dueDate));
+        }
+        if (filterType != null) {
+            spec = spec.and(byFilterType(filterType, today));
+        }
+        return spec;
+    }
+
+    public static Specification<Task> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Task> hasCompleted(final boolean completed) {
+        return (root, query, cb) -> cb.equal(root.get("completed"), completed);
+    }
+
+    public static Specification<Task> dueOn(final LocalDate date) {
+        return (root, query, cb) -> cb.equal(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueBefore(final LocalDate date) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueAfter(final LocalDate date) {
+        return (root, query, cb) -> cb.greaterThan(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> hasDueDate() {
+        return (root, query, cb) -> cb.isNotNull(root.get("dueDate"));
+    }
+
+    public static Specification<Task> noDueDate() {
+        return (root, query, cb) -> cb.isNull(root.get("dueDate"));
+    }
+
+    public static Specification<Task> idIn(final Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Keyset predicate for the order the cursor was taken in: everything strictly after the cursor row.
+     * For the due date order it also picks the part of the list the cursor is in, dated or undated.
+     * Each OR expansion is ANDed with a plain range on the first index column. The range is implied by the OR,
+     * but only the range lets the database start the index scan at the cursor instead of filtering every row
+     * before it.
+     */
+    public static Specification<Task> after(final TaskCursor cursor) {
+        if (cursor == null) {
+            return all();
+        }
+        return switch (cursor.sort()) {
+            case CREATED_AT -> (root, query, cb) -> cb.and(
+                    cb.lessThanOrEqualTo(root.get("createdAt"), cursor.createdAt()),
+                    cb.or(cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                            cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                    cb.lessThan(root.get("id"), cursor.id()))));
+            case PRIORITY -> (root, query, cb) -> cb.and(
+                    cb.lessThanOrEqualTo(root.get("priority"), cursor.priority()),
+                    cb.or(cb.lessThan(root.get("priority"), cursor.priority()),
+                            cb.and(cb.equal(root.get("priority"), cursor.priority()),
+                                    cb.or(cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                                            cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                                    cb.lessThan(root.get("id"), cursor.id()))))));
+            case DUE_DATE -> cursor.dueDate() == null
+                    ? noDueDate().and(createdAfter(cursor))
+                    : hasDueDate().and((root, query, cb) -> cb.and(
+                            cb.greaterThanOrEqualTo(root.get("dueDate"), cursor.dueDate()),
+                            cb.or(cb.greaterThan(root.get("dueDate"), cursor.dueDate()),
+                                    cb.and(cb.equal(root.get("dueDate"), cursor.dueDate()),
+                                            createdAfter(cursor).toPredicate(root, query, cb)))));
+        };
+    }
+
+    /**
+     * Keyset predicate for the ascending (createdAt, id) tail of the due date order. In the undated part of the
+     * list createdAt is the index column after the due date, so its leading bound is the range start there.
+     */
+    private static Specification<Task> createdAfter(final TaskCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), cursor.createdAt()),
+                cb.or(cb.greaterThan(root.get("createdAt"), cursor.createdAt()),
+                        cb.and(cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                cb.greaterThan(root.get("id"), cursor.id()))));
+    }
+
+    /**
+     * Overdue tasks are the open tasks whose due date has already passed.
+     */
+    public static Specification<Task> byFilterType(final TaskFilterType filterType, final LocalDate today) {
+        return switch (filterType) {
+            case TODAY -> dueOn(today);
+            case OVERDUE -> hasCompleted(false).and(dueBefore(today));
+            case UPCOMING -> dueAfter(today);
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.todo.todo_list.search;
+
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.event.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over task titles and descriptions, used when the database has no full-text support
+ * (H2 in tests and local runs). Terms are kept sorted so a query term is matched as a word prefix with a range
+ * lookup, and the cost of a query depends on the matching postings only, not on the number of tasks.
+ *
+ * @author by piyumi_navodani
+ */
+@Slf4j
+public class InMemoryTaskSearchEngine implements TaskSearchEngine, SmartInitializingSingleton {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NavigableMap<String, Map<UUID, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Set<String>> termsByTask = new HashMap<>();
+    private final Map<UUID, FilterFields> fieldsByTask = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryTaskSearchEngine(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Loads the index once every bean exists, after the schema scripts and before the web server accepts
+     * requests, so no search is answered from an index that is still empty.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * This method is to load every task into the index again, dropping the current entries
+     */
+    public void rebuild() {
+        log.info("InMemoryTaskSearchEngine.rebuild() started.");
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByTask.clear();
+            fieldsByTask.clear();
+            jdbcTemplate.query("SELECT id, title, description, completed, due_date FROM task WHERE deleted = FALSE",
+                    (RowCallbackHandler) rs -> indexTask(rs.getObject("id", UUID.class), rs.getString("title"),
+                            rs.getString("description"), new FilterFields(rs.getBoolean("completed"),
+                                    rs.getObject("due_date", LocalDate.class))));
+            log.info("Search index rebuilt with {} tasks.", termsByTask.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method is to keep the index in line with committed task changes
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.COMMENTED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.type() == TaskChangeType.TOGGLED) {
+                // The text is unchanged, only the completion flag the filters look at.
+                fieldsByTask.computeIfPresent(event.taskId(),
+                        (id, fields) -> new FilterFields(event.completed(), fields.dueDate()));
+                return;
+            }
+            removeTask(event.taskId());
+            if (event.type() != TaskChangeType.DELETED) {
+                indexTask(event.taskId(), event.title(), event.description(),
+                        new FilterFields(event.completed(), event.dueDate()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<UUID> search(String query, TaskSearchFilter filter, int limit) {
+        List<String> queryTerms = SearchTokenizer.tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<UUID, Double> termScores = scoreTerm(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // Every query term has to match, like the AND of a tsquery.
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            // Filter before the limit, so the best matches returned are the best ones that pass the filters.
+            return scores.entrySet().stream()
+                    .filter(entry -> fieldsByTask.get(entry.getKey()).matches(filter))
+                    .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every task that has a word starting with the query term. An exact word match ranks above a
+     * prefix match, rarer words rank above common ones and title hits count twice.
+     */
+    private Map<UUID, Double> scoreTerm(String queryTerm) {
+        Map<UUID, Double> scores = new HashMap<>();
+        int taskCount = Math.max(termsByTask.size(), 1);
+        for (Map.Entry<String, Map<UUID, Integer>> entry
+                : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+            Map<UUID, Integer> docs = entry.getValue();
+            double idf = Math.log(1.0 + (double) taskCount / docs.size());
+            double factor = entry.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_FACTOR;
+            docs.forEach((id, weight) -> scores.merge(id, weight * idf * factor, Double::sum));
+        }
+        return scores;
+    }
+
+    private void indexTask(UUID id, String title, String description, FilterFields fields) {
+        Map<String, Integer> weights = new HashMap<>();
+        SearchTokenizer.tokenize(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        SearchTokenizer.tokenize(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        if (weights.isEmpty()) {
+            return;
+        }
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(id, weight));
+        termsByTask.put(id, weights.keySet());
+        fieldsByTask.put(id, fields);
+    }
+
+    private void removeTask(UUID id) {
+        fieldsByTask.remove(id);
+        Set<String> terms = termsByTask.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<UUID, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * The task fields the list filters look at, kept next to the postings so a search can filter before it ranks.
+     */
+    private record FilterFields(boolean completed, LocalDate dueDate) {
+
+        boolean matches(TaskSearchFilter filter) {
+            return filter.matches(completed, dueDate);
+        }
+    }
+}
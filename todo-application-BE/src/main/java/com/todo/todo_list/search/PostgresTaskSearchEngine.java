@@ -0,0 +1,58 @@
+package com.todo.todo_list.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search on PostgreSQL. Word-prefix matches come from the weighted tsvector GIN index and
+ * misspelt titles are still found through the trigram index; both are created by V001__task_search_indexes.sql.
+ *
+ * @author by piyumi_navodani
+ */
+@Slf4j
+public class PostgresTaskSearchEngine implements TaskSearchEngine {
+
+    private static final String DOCUMENT =
+            "(setweight(to_tsvector('simple', coalesce(t.title, '')), 'A') || "
+                    + "setweight(to_tsvector('simple', coalesce(t.description, '')), 'B'))";
+
+    private static final String SEARCH_SQL =
+            "SELECT t.id FROM task t "
+                    + "WHERE (" + DOCUMENT + " @@ to_tsquery('simple', :tsquery) OR t.title % :text) AND t.deleted = FALSE";
+
+    private static final String ORDER_AND_LIMIT =
+            " ORDER BY ts_rank(" + DOCUMENT + ", to_tsquery('simple', :tsquery)) DESC, "
+                    + "similarity(t.title, :text) DESC "
+                    + "LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresTaskSearchEngine(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UUID> search(String query, TaskSearchFilter filter, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // Tokens only hold letters and digits, so they are safe to place in the tsquery syntax.
+        String tsquery = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+        Map<String, Object> params = new HashMap<>();
+        params.put("tsquery", tsquery);
+        params.put("text", String.join(" ", terms));
+        params.put("limit", limit);
+        // The filters go into the ranked query, so LIMIT keeps the best matches that pass them.
+        StringBuilder sql = new StringBuilder(SEARCH_SQL);
+        filter.toSql(params).forEach(condition -> sql.append(" AND ").append(condition));
+        sql.append(ORDER_AND_LIMIT);
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> rs.getObject("id", UUID.class));
+    }
+}
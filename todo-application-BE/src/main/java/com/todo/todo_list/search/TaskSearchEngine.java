@@ -0,0 +1,31 @@
+package com.todo.todo_list.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author by piyumi_navodani
+ */
+public interface TaskSearchEngine {
+
+    /**
+     * This method is to find the tasks matching the search text, best match first.
+     * Every term of the query must match the start of a word in the task title or description.
+     * @param query
+     * @param limit
+     * @return taskIds ordered by relevance
+     */
+    default List<UUID> search(final String query, final int limit) {
+        return search(query, TaskSearchFilter.NONE, limit);
+    }
+
+    /**
+     * This method is to find the tasks matching the search text and the filters, best match first.
+     * The filters are applied before the limit, so no filtered match is lost to a better unfiltered one.
+     * @param query
+     * @param filter
+     * @param limit
+     * @return taskIds ordered by relevance
+     */
+    List<UUID> search(final String query, final TaskSearchFilter filter, final int limit);
+}
@@ -0,0 +1,68 @@
+package com.todo.todo_list.search;
+
+import com.todo.todo_list.repository.specification.TaskFilterType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The list filters of a search, applied by the search engine while it ranks, so the best matches it returns
+ * are the best matches that pass the filters. Mirrors {@code TaskSpecifications.filter}.
+ *
+ * @author by piyumi_navodani
+ */
+public record TaskSearchFilter(Boolean completed, LocalDate dueDate, TaskFilterType filterType, LocalDate today) {
+
+    public static final TaskSearchFilter NONE = new TaskSearchFilter(null, null, null, null);
+
+    /**
+     * This method is to check a task against the filters
+     * @param taskCompleted
+     * @param taskDueDate
+     * @return true when the task passes every filter
+     */
+    public boolean matches(final boolean taskCompleted, final LocalDate taskDueDate) {
+        if (completed != null && completed != taskCompleted) {
+            return false;
+        }
+        if (dueDate != null && !dueDate.equals(taskDueDate)) {
+            return false;
+        }
+        if (filterType == null) {
+            return true;
+        }
+        return switch (filterType) {
+            case TODAY -> today.equals(taskDueDate);
+            case OVERDUE -> !taskCompleted && taskDueDate != null && taskDueDate.isBefore(today);
+            case UPCOMING -> taskDueDate != null && taskDueDate.isAfter(today);
+        };
+    }
+
+    /**
+     * This method is to render the filters as SQL conditions on the task table aliased {@code t}
+     * @param params receives the values of the named parameters used by the conditions
+     * @return conditions, each to be ANDed to the search query
+     */
+    public List<String> toSql(final Map<String, Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (completed != null) {
+            conditions.add("t.completed = :completed");
+            params.put("completed", completed);
+        }
+        if (dueDate != null) {
+            conditions.add("t.due_date = :dueDate");
+            params.put("dueDate", dueDate);
+        }
+        if (filterType != null) {
+            conditions.add(switch (filterType) {
+                case TODAY -> "t.due_date = :today";
+                case OVERDUE -> "t.completed = FALSE AND t.due_date < :today";
+                case UPCOMING -> "t.due_date > :today";
+            });
+            params.put("today", today);
+        }
+        return conditions;
+    }
+}
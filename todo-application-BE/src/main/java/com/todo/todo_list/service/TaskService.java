@@ -1,11 +1,21 @@
 package com.todo.todo_list.service;
 
+import com.todo.todo_list.dto.BatchResultDto;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.CommentPageDto;
 import com.todo.todo_list.dto.CommonResponse;
+import com.todo.todo_list.dto.ImportResultDto;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
 import com.todo.todo_list.dto.TaskRequestDto;
+import com.todo.todo_list.dto.TaskStatsDto;
 import com.todo.todo_list.dto.TaskUpdateDto;
 import com.todo.todo_list.entity.Comment;
 import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.export.TaskExportFormat;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -22,7 +32,8 @@ public interface TaskService {
     Task createTask(final Task task);
 
     /**
-     * This method is to edit a task
+     * This method is to edit a task. When the update carries a version that is no longer current the
+     * update is rejected with an OptimisticLockingFailureException
      * @param id
      * @param updated
      * @return task
@@ -33,9 +44,9 @@ public interface TaskService {
      * This method is to update the task as done by checked the checkbox
      * @param id
      * @param completed
-     * @return task
+     * @return task, unchanged when it already had the requested state
      */
-    Task toggleCompletion(final UUID id, final boolean completed);
+    TaskDto toggleCompletion(final UUID id, final boolean completed);
 
     /**
      * This method is to delete a task
@@ -50,21 +61,98 @@ public interface TaskService {
      */
     Task getTaskById(final UUID id);
 
+    /**
+     * This method is to get the task details without loading the entity. The result may come from the shared
+     * task cache and must not be modified
+     * @param id
+     * @param includeComments when true the first page of comments is attached
+     * @return taskDto
+     */
+    TaskDto getTaskDetails(final UUID id, final boolean includeComments);
+
+    /**
+     * This method is to get the task counts for the dashboard from the incrementally maintained statistics
+     * @return taskStats
+     */
+    TaskStatsDto getStatistics();
+
     /**
      * This method is to get tasks list
      * @param search
      * @param completed
      * @param dueDate
      * @param filterType
-     * @return tasksList
+     * @param sort createdAt (default), priority or dueDate; must be null when searching
+     * @param cursor continuation token returned with the previous page, or null for the first page; must be null
+     *               when searching, a search returns its best matches as a single page
+     * @param size
+     * @return tasksPage
+     */
+    TaskPageDto getTasks(final String search, final Boolean completed, final LocalDate dueDate, final String filterType,
+                         final String sort, final String cursor, final Integer size);
+
+    /**
+     * This method is to write every task matching the filters to the output stream in the given format
+     * @param completed
+     * @param dueDate
+     * @param filterType
+     * @param format
+     * @param out left open
+     * @return number of exported tasks
      */
-    List<Task> getTasks(final String search, final Boolean completed, final LocalDate dueDate, final String filterType);
+    long exportTasks(final Boolean completed, final LocalDate dueDate, final String filterType,
+                     final TaskExportFormat format, final OutputStream out);
 
     /**
      * This method is to add comments to the task
      * @param taskId
      * @param comment
-     * @return
+     * @return comment
+     */
+    Comment addComment(final UUID taskId, final Comment comment);
+
+    /**
+     * This method is to accept a comment that is written later by the write-behind buffer
+     * @param taskId
+     * @param comment
+     * @return commentDto
+     */
+    CommentDto queueComment(final UUID taskId, final Comment comment);
+
+    /**
+     * This method is to get one page of the task comments, oldest first
+     * @param taskId
+     * @param page
+     * @param size
+     * @return commentsPage
+     */
+    CommentPageDto getComments(final UUID taskId, final Integer page, final Integer size);
+
+    /**
+     * This method is to create several tasks in one transaction with batched inserts
+     * @param tasks
+     * @return batchResult with one entry per submitted task
+     */
+    BatchResultDto createTasks(final List<Task> tasks);
+
+    /**
+     * This method is to create tasks from an NDJSON stream in chunked, batched transactions
+     * @param in one task per line
+     * @return importResult
+     */
+    ImportResultDto importTasks(final InputStream in);
+
+    /**
+     * This method is to edit several tasks in one transaction with batched updates
+     * @param tasks each task must carry its id
+     * @return batchResult with one entry per submitted task
+     */
+    BatchResultDto updateTasks(final List<Task> tasks);
+
+    /**
+     * This method is to delete several tasks and their comments in one transaction
+     * @param ids
+     * @return batchResult with one entry per submitted id
      */
-    Task addComment(final UUID taskId, final Comment comment);
+    BatchResultDto deleteTasks(final List<UUID> ids);
 }
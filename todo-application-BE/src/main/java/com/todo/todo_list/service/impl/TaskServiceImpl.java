@@ -1,27 +1,81 @@
 package com.todo.todo_list.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.todo.todo_list.cache.TaskCache;
+import com.todo.todo_list.datasource.ReplicaRouting;
+import com.todo.todo_list.dto.BatchItemResultDto;
+import com.todo.todo_list.dto.BatchResultDto;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.CommentPageDto;
 import com.todo.todo_list.dto.CommonResponse;
+import com.todo.todo_list.dto.ImportErrorDto;
+import com.todo.todo_list.dto.ImportResultDto;
 import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
 import com.todo.todo_list.dto.TaskRequestDto;
+import com.todo.todo_list.dto.TaskStatsDto;
 import com.todo.todo_list.dto.TaskUpdateDto;
 import com.todo.todo_list.entity.Comment;
 import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.generator.UuidV7;
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.export.TaskExportFormat;
+import com.todo.todo_list.export.TaskExportWriter;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.event.TaskState;
+import com.todo.todo_list.ingest.CommentBufferFullException;
+import com.todo.todo_list.ingest.CommentWriteBehindBuffer;
+import com.todo.todo_list.ingest.PendingComment;
+import com.todo.todo_list.purge.TaskPurger;
 import com.todo.todo_list.repository.CommentRepository;
 import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.repository.specification.TaskCursor;
+import com.todo.todo_list.repository.specification.TaskFilterType;
+import com.todo.todo_list.repository.specification.TaskSort;
+import com.todo.todo_list.repository.specification.TaskSpecifications;
+import com.todo.todo_list.search.TaskSearchEngine;
+import com.todo.todo_list.search.TaskSearchFilter;
 import com.todo.todo_list.service.TaskService;
+import com.todo.todo_list.stats.TaskStatistics;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author by piyumi_navodani
@@ -30,10 +84,28 @@ import java.util.stream.Collectors;
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Timed(value = "todo.task.service", description = "Task service method timings", percentiles = {0.5, 0.95, 0.99})
 public class TaskServiceImpl implements TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final int MAX_IMPORT_ERRORS = 1000;
+    private static final Sort COMMENT_ORDER = Sort.by(Sort.Direction.ASC, "timeStamp", "id");
+
     private final TaskRepository taskRepository;
     private final CommentRepository commentRepository;
+    private final TaskSearchEngine taskSearchEngine;
+    private final TaskCache taskCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentWriteBehindBuffer commentBuffer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskStatistics taskStatistics;
+    private final TaskPurger taskPurger;
 
     /**
      * This method is to create a new to-do task
@@ -57,6 +129,7 @@ public class TaskServiceImpl implements TaskService {
             Task savedTask = taskRepository.save(task);
 
             log.info("Task created successfully with ID: {}", savedTask.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, savedTask));
             return savedTask;
         }catch (Exception e){
             log.error("Error occurred while creating task: {}", e.getMessage(), e);
@@ -71,6 +144,7 @@ public class TaskServiceImpl implements TaskService {
      * @return task
      */
     @Override
+    @Transactional
     public Task updateTask(UUID id, Task updated) {
         log.info("TaskServiceImpl.updateTask() started.");
         if (id == null || updated == null) {
@@ -79,24 +153,25 @@ public class TaskServiceImpl implements TaskService {
         }
 
         try {
-            Task task = getTaskById(id);
+            Task task = loadTask(id);
+            checkVersion(task, updated);
             log.info("Updating task with ID: {}", id);
-            task.setTitle(updated.getTitle());
-            task.setDescription(updated.getDescription());
-            task.setDueDate(updated.getDueDate());
-            task.setUpdatedAt(LocalDateTime.now());
-            task.setCompleted(updated.isCompleted());
-            task.setPriority(updated.getPriority());
+            TaskState previous = TaskState.of(task);
+            applyUpdate(task, updated, LocalDateTime.now());
 
             Task savedTask = taskRepository.save(task);
 
             log.info("Task updated successfully. ID: {}", savedTask.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.UPDATED, savedTask, previous));
 
             return savedTask;
 
         } catch (EntityNotFoundException e) {
             log.error("Task not found with ID: {}", id);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Task with ID: {} was changed by another request. Update rejected.", id);
+            throw e;
         } catch (Exception e) {
             log.error("Error while updating task with ID: {}: {}", id, e.getMessage(), e);
             throw new RuntimeException("Failed to update task", e);
@@ -104,29 +179,37 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * This method is to update the task as done by checked the checkbox
+     * This method is to update the task as done by checked the checkbox. The flag is written with one conditional
+     * UPDATE, so concurrent clicks can not overwrite each other and a click that changes nothing writes nothing
      * @param id
      * @param completed
      * @return task
      */
     @Override
-    public Task toggleCompletion(UUID id, boolean completed) {
+    @Transactional
+    public TaskDto toggleCompletion(UUID id, boolean completed) {
         log.info("TaskServiceImpl.toggleCompletion() started.");
         if (id == null) {
             log.warn("Task ID is null. Cannot toggle completion.");
             throw new IllegalArgumentException("Task ID must not be null.");
         }
         try {
-            Task task = getTaskById(id);
             log.info("Toggling completion status for task with ID: {} to {}", id, completed);
-            task.setCompleted(completed);
-            Task savedTask = taskRepository.save(task);
-
-            log.info("Task completion status updated successfully. ID: {}, Completed: {}", savedTask.getId(), savedTask.isCompleted());
+            Optional<TaskDto> toggled = taskRepository.updateCompleted(id, completed, LocalDateTime.now());
+            if (toggled.isEmpty()) {
+                log.info("Task with ID: {} is already completed={}, nothing to update.", id, completed);
+                return taskRepository.findDtoById(id)
+                        .orElseThrow(() -> {
+                            log.error("Task not found with ID: {}", id);
+                            return new EntityNotFoundException("Task not found with ID: " + id);
+                        });
+            }
+            TaskDto task = toggled.get();
+            log.info("Task completion status updated successfully. ID: {}, Completed: {}", task.getId(), task.isCompleted());
+            eventPublisher.publishEvent(TaskChangedEvent.toggled(task));
 
-            return savedTask;
+            return task;
         } catch (EntityNotFoundException e) {
-            log.error("Task not found with ID: {}", id);
             throw e;
         } catch (Exception e) {
             log.error("Error while toggling completion for task ID: {}: {}", id, e.getMessage(), e);
@@ -135,10 +218,13 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * This method is to delete a task
+     * This method is to delete a task. With soft delete the task is only tombstoned, with one statement, and the
+     * TaskPurger removes it and its comments later; otherwise the task and its comments are deleted with one
+     * statement each. Either statement returns the row, so the event carries its state without another read
      * @param id
      */
     @Override
+    @Transactional
     public void deletTask(UUID id) {
         log.info("TaskServiceImpl.deletTask() started.");
         if (id == null) {
@@ -147,11 +233,15 @@ public class TaskServiceImpl implements TaskService {
         }
         try {
             log.info("Deleting task with ID: {}", id);
-            taskRepository.deleteById(id);
+            TaskDto deleted = deleteReturning(id)
+                    .orElseThrow(() -> {
+                        log.error("Task with ID {} not found. Nothing to delete.", id);
+                        return new EntityNotFoundException("Task not found with ID: " + id);
+                    });
             log.info("Task deleted successfully. ID: {}", id);
-        } catch (EmptyResultDataAccessException e) {
-            log.error("Task with ID {} not found. Nothing to delete.", id);
-            throw new EntityNotFoundException("Task not found with ID: " + id);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(id, TaskState.of(deleted)));
+        } catch (EntityNotFoundException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error while deleting task with ID: {}: {}", id, e.getMessage(), e);
             throw new RuntimeException("Failed to delete task", e);
@@ -164,6 +254,7 @@ public class TaskServiceImpl implements TaskService {
      * @return task
      */
     @Override
+    @Transactional(readOnly = true)
     public Task getTaskById(UUID id) {
         log.info("TaskServiceImpl.getTaskById() started.");
         if (id == null) {
@@ -171,11 +262,7 @@ public class TaskServiceImpl implements TaskService {
             throw new IllegalArgumentException("Task ID must not be null.");
         }
         try {
-            return taskRepository.findById(id)
-                    .orElseThrow(() -> {
-                        log.error("Task not found with ID: {}", id);
-                        return new EntityNotFoundException("Task not found with ID: " + id);
-                    });
+            return loadTask(id);
         } catch (EntityNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -184,19 +271,102 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    /**
+     * This method is to get the task details as a projection, served from the task cache. The first page
+     * of comments is only read when it is asked for
+     * @param id
+     * @param includeComments
+     * @return taskDto
+     */
+    @Override
+    public TaskDto getTaskDetails(UUID id, boolean includeComments) {
+        log.info("TaskServiceImpl.getTaskDetails() started.");
+        if (id == null) {
+            log.warn("Task ID is null. Cannot fetch task.");
+            throw new IllegalArgumentException("Task ID must not be null.");
+        }
+        try {
+            // Misses are read from the primary: a lagging replica would put the old row back into the cache
+            // right after the change event evicted it.
+            TaskDto task = taskCache.get(id, key -> ReplicaRouting.onPrimary(() -> taskRepository.findDtoById(key))
+                    .orElseThrow(() -> {
+                        log.error("Task not found with ID: {}", key);
+                        return new EntityNotFoundException("Task not found with ID: " + key);
+                    }));
+            if (!includeComments) {
+                return task;
+            }
+            // The cached instance is shared, so the comments go on a copy.
+            Slice<CommentDto> comments = commentRepository.findDtosByTaskId(id,
+                    PageRequest.of(0, MAX_PAGE_SIZE, COMMENT_ORDER));
+            return task.toBuilder().comments(comments.getContent()).build();
+        } catch (EntityNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error while fetching task details with ID: {}: {}", id, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch task", e);
+        }
+    }
+
+    /**
+     * This method is to get the task counts for the dashboard. They are kept up to date by the task change
+     * events, so no table is scanned here
+     * @return taskStats
+     */
+    @Override
+    public TaskStatsDto getStatistics() {
+        log.info("TaskServiceImpl.getStatistics() started.");
+        try {
+            return taskStatistics.snapshot();
+        } catch (Exception e) {
+            log.error("Error while reading task statistics: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch task statistics", e);
+        }
+    }
+
     /**
      * This method is to get tasks list
      * @param search
      * @param completed
      * @param dueDate
      * @param filterType
-     * @return tasksList
+     * @param sort
+     * @param cursor
+     * @param size
+     * @return tasksPage ranked by relevance when a search text is given, otherwise in the requested order
      */
     @Override
-    public List<Task> getTasks(String search, Boolean completed, LocalDate dueDate, String filterType) {
+    @Transactional(readOnly = true)
+    public TaskPageDto getTasks(String search, Boolean completed, LocalDate dueDate, String filterType,
+                                String sort, String cursor, Integer size) {
         log.info("TaskServiceImpl.getTasks() started.");
+        boolean searching = search != null && !search.isBlank();
+        if (searching && (cursor != null || (sort != null && !sort.isBlank()))) {
+            throw new IllegalArgumentException("Search results are ranked by relevance and cannot be sorted or paged.");
+        }
+        TaskFilterType type = TaskFilterType.from(filterType);
+        TaskSort order = TaskSort.from(sort);
+        TaskCursor after = TaskCursor.decode(cursor);
+        if (after != null && after.sort() != order) {
+            throw new IllegalArgumentException("Cursor was not issued for sort: " + order.getParameter());
+        }
+        int pageSize = resolvePageSize(size);
         try {
-            return taskRepository.findTop5ByOrderByCreatedAtDesc();
+            LocalDate today = LocalDate.now();
+            Specification<Task> filter = TaskSpecifications.filter(completed, dueDate, type, today);
+            if (searching) {
+                return searchTasks(search, new TaskSearchFilter(completed, dueDate, type, today), filter, pageSize);
+            }
+            // One extra row tells us whether another page exists without running a count query.
+            List<TaskDto> rows = taskRepository.findPage(filter, order, after, pageSize + 1);
+            if (rows.size() <= pageSize) {
+                return TaskPageDto.builder().items(rows).build();
+            }
+            List<TaskDto> items = rows.subList(0, pageSize);
+            return TaskPageDto.builder()
+                    .items(items)
+                    .nextCursor(TaskCursor.of(order, items.get(pageSize - 1)).encode())
+                    .build();
         } catch (Exception e) {
             log.error("Error while fetching tasks list: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to fetch tasks", e);
@@ -204,13 +374,82 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * This method is to add comments to the task
+     * This method is to write every task matching the filters to the output stream. Tasks are read over a
+     * forward-only cursor and written one by one, so memory use does not depend on the number of tasks
+     * @param completed
+     * @param dueDate
+     * @param filterType
+     * @param format
+     * @param out
+     * @return number of exported tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(Boolean completed, LocalDate dueDate, String filterType, TaskExportFormat format,
+                            OutputStream out) {
+        log.info("TaskServiceImpl.exportTasks() started.");
+        if (format == null || out == null) {
+            throw new IllegalArgumentException("Export format and output stream must not be null.");
+        }
+        TaskFilterType type = TaskFilterType.from(filterType);
+        Specification<Task> spec = TaskSpecifications.filter(completed, dueDate, type, LocalDate.now());
+        long exported = 0;
+        try (Stream<TaskDto> tasks = taskRepository.streamDtos(spec, EXPORT_FETCH_SIZE)) {
+            TaskExportWriter writer = TaskExportWriter.open(format, objectMapper, out);
+            Iterator<TaskDto> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                exported++;
+            }
+            writer.flush();
+            log.info("Exported {} tasks as {}", exported, format);
+            return exported;
+        } catch (Exception e) {
+            log.error("Error while exporting tasks after {} rows: {}", exported, e.getMessage(), e);
+            throw new RuntimeException("Failed to export tasks", e);
+        }
+    }
+
+    /**
+     * Relevance order has no stable keyset, so a search returns its best matches as a single page without a cursor.
+     * The search engine applies the filters while it ranks, so the page holds the best matches that pass them.
+     */
+    private TaskPageDto searchTasks(String search, TaskSearchFilter searchFilter, Specification<Task> filter,
+                                    int pageSize) {
+        List<UUID> ranked = taskSearchEngine.search(search, searchFilter, pageSize);
+        if (ranked.isEmpty()) {
+            return TaskPageDto.builder().items(List.of()).build();
+        }
+        Map<UUID, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            rank.put(ranked.get(i), i);
+        }
+        List<TaskDto> items = taskRepository.findDtos(filter.and(TaskSpecifications.idIn(ranked)), Sort.unsorted(), -1).stream()
+                .sorted(Comparator.comparing(task -> rank.get(task.getId())))
+                .toList();
+        return TaskPageDto.builder().items(items).build();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("Invalid page size requested: {}", size);
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * This method is to add comments to the task. Only the comment row is written;
+     * the task's comment collection is never loaded
      * @param taskId
      * @param comment
-     * @return
+     * @return comment
      */
     @Override
-    public Task addComment(UUID taskId, Comment comment) {
+    public Comment addComment(UUID taskId, Comment comment) {
         log.info("TaskServiceImpl.addComment() started.");
         if (taskId == null) {
             log.warn("Task ID is null. Cannot add comment.");
@@ -221,22 +460,414 @@ public class TaskServiceImpl implements TaskService {
             throw new IllegalArgumentException("Comment must not be null.");
         }
         try {
-            Task task = getTaskById(taskId);
+            if (!taskRepository.existsById(taskId)) {
+                log.error("Task not found with ID: {}", taskId);
+                throw new EntityNotFoundException("Task not found with ID: " + taskId);
+            }
             comment.setId(null);
-            comment.setText(comment.getText());
             comment.setTimeStamp(LocalDateTime.now());
-            comment.setTask(task);
-            task.getComments().add(comment);
-            commentRepository.save(comment);
-            Task savedTask = taskRepository.save(task);
+            comment.setTask(taskRepository.getReferenceById(taskId));
+            Comment savedComment = commentRepository.save(comment);
             log.info("Comment added successfully to task with ID: {}", taskId);
-            return savedTask;
+            eventPublisher.publishEvent(TaskChangedEvent.commented(taskId));
+            return savedComment;
         } catch (EntityNotFoundException e) {
-            log.error("Task not found with ID: {}", taskId);
             throw e;
         } catch (Exception e) {
             log.error("Error adding comment to task with ID {}: {}", taskId, e.getMessage(), e);
             throw new RuntimeException("Failed to add comment", e);
         }
     }
+
+    /**
+     * This method is to accept a comment for the write-behind buffer. The id and time stamp are assigned here,
+     * so the response already carries the values the row will get when the buffer is flushed
+     * @param taskId
+     * @param comment
+     * @return commentDto
+     */
+    @Override
+    public CommentDto queueComment(UUID taskId, Comment comment) {
+        log.info("TaskServiceImpl.queueComment() started.");
+        if (taskId == null) {
+            log.warn("Task ID is null. Cannot queue comment.");
+            throw new IllegalArgumentException("Task ID must not be null.");
+        }
+        if (comment == null) {
+            log.warn("Comment is null. Cannot queue comment.");
+            throw new IllegalArgumentException("Comment must not be null.");
+        }
+        try {
+            if (!taskRepository.existsById(taskId)) {
+                log.error("Task not found with ID: {}", taskId);
+                throw new EntityNotFoundException("Task not found with ID: " + taskId);
+            }
+            PendingComment pending = new PendingComment(UuidV7.next(), taskId, comment.getText(), LocalDateTime.now());
+            commentBuffer.offer(pending);
+            log.info("Comment queued for task with ID: {}", taskId);
+            return new CommentDto(pending.id(), pending.text(), pending.timeStamp());
+        } catch (EntityNotFoundException | CommentBufferFullException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error queueing comment for task with ID {}: {}", taskId, e.getMessage(), e);
+            throw new RuntimeException("Failed to queue comment", e);
+        }
+    }
+
+    /**
+     * This method is to get one page of the task comments, oldest first
+     * @param taskId
+     * @param page
+     * @param size
+     * @return commentsPage
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPageDto getComments(UUID taskId, Integer page, Integer size) {
+        log.info("TaskServiceImpl.getComments() started.");
+        if (taskId == null) {
+            log.warn("Task ID is null. Cannot fetch comments.");
+            throw new IllegalArgumentException("Task ID must not be null.");
+        }
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            log.warn("Invalid comments page requested: {}", page);
+            throw new IllegalArgumentException("Page must not be negative.");
+        }
+        int pageSize = resolvePageSize(size);
+        try {
+            if (!taskRepository.existsById(taskId)) {
+                log.error("Task not found with ID: {}", taskId);
+                throw new EntityNotFoundException("Task not found with ID: " + taskId);
+            }
+            Slice<CommentDto> slice = commentRepository.findDtosByTaskId(taskId, PageRequest.of(pageNumber, pageSize, COMMENT_ORDER));
+            return CommentPageDto.builder()
+                    .items(slice.getContent())
+                    .page(pageNumber)
+                    .size(pageSize)
+                    .hasNext(slice.hasNext())
+                    .build();
+        } catch (EntityNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error while fetching comments for task with ID {}: {}", taskId, e.getMessage(), e);
+            throw new RuntimeException("Failed to fetch comments", e);
+        }
+    }
+
+    /**
+     * This method is to create several tasks in one transaction with batched inserts
+     * @param tasks
+     * @return batchResult with one entry per submitted task
+     */
+    @Override
+    @Transactional
+    public BatchResultDto createTasks(List<Task> tasks) {
+        log.info("TaskServiceImpl.createTasks() started.");
+        validateBatch(tasks);
+        try {
+            return BatchResultDto.of(insertTasks(tasks));
+        } catch (Exception e) {
+            log.error("Error occurred while creating tasks in batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to create tasks", e);
+        }
+    }
+
+    /**
+     * This method is to create tasks from an NDJSON stream, one task per line. The stream is read line by line
+     * and written in chunks of IMPORT_CHUNK_SIZE, each in its own transaction with batched inserts, so the
+     * payload is never held in memory and the client can not send faster than the database writes
+     * @param in
+     * @return importResult with the line number and reason of every rejected line
+     */
+    @Override
+    public ImportResultDto importTasks(InputStream in) {
+        log.info("TaskServiceImpl.importTasks() started.");
+        if (in == null) {
+            log.warn("Import stream is null. Nothing to import.");
+            throw new IllegalArgumentException("Import stream must not be null.");
+        }
+        ObjectReader taskReader = objectMapper.readerFor(Task.class);
+        ImportProgress progress = new ImportProgress();
+        List<Task> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.lines++;
+                Task task;
+                try {
+                    task = taskReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    progress.fail(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+                if (task == null) {
+                    progress.fail(lineNumber, "Task must not be null");
+                    continue;
+                }
+                chunk.add(task);
+                chunkLines.add(lineNumber);
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    importChunk(chunk, chunkLines, progress);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, chunkLines, progress);
+            }
+            log.info("Import finished. Lines: {}, Imported: {}, Failed: {}", progress.lines, progress.imported, progress.failed);
+            return progress.toResult();
+        } catch (Exception e) {
+            log.error("Error while importing tasks after {} imported: {}", progress.imported, e.getMessage(), e);
+            throw new RuntimeException("Failed to import tasks", e);
+        }
+    }
+
+    /**
+     * A chunk that fails to commit is reported line by line and the import goes on with the next one.
+     */
+    private void importChunk(List<Task> chunk, List<Long> chunkLines, ImportProgress progress) {
+        try {
+            List<BatchItemResultDto> results = transactionTemplate.execute(status -> insertTasks(chunk));
+            for (BatchItemResultDto result : results) {
+                if (result.isSuccess()) {
+                    progress.imported++;
+                } else {
+                    progress.fail(chunkLines.get(result.getIndex()), result.getError());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Import chunk of {} tasks starting at line {} failed: {}", chunk.size(), chunkLines.get(0), e.getMessage());
+            chunkLines.forEach(line -> progress.fail(line, "Chunk could not be saved: " + e.getMessage()));
+        } finally {
+            chunk.clear();
+            chunkLines.clear();
+        }
+    }
+
+    /**
+     * Inserts the tasks with batched statements in the caller's transaction and publishes their created events.
+     */
+    private List<BatchItemResultDto> insertTasks(List<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        BatchItemResultDto[] results = new BatchItemResultDto[tasks.size()];
+        List<Task> toSave = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task == null) {
+                results[i] = batchFailure(i, null, "Task must not be null");
+                continue;
+            }
+            // A version in the payload (e.g. a re-imported export) would make save() merge a copy instead of
+            // persisting this instance, and the result would lose the generated id.
+            task.setId(null);
+            task.setVersion(null);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            toSave.add(task);
+        }
+        taskRepository.saveAll(toSave);
+        taskRepository.flush();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (results[i] == null) {
+                Task saved = tasks.get(i);
+                results[i] = batchSuccess(i, saved.getId());
+                eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, saved));
+            }
+        }
+        log.info("Batch create finished. Created: {}, Rejected: {}", toSave.size(), tasks.size() - toSave.size());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * This method is to edit several tasks in one transaction with batched updates
+     * @param tasks each task must carry its id
+     * @return batchResult with one entry per submitted task
+     */
+    @Override
+    @Transactional
+    public BatchResultDto updateTasks(List<Task> tasks) {
+        log.info("TaskServiceImpl.updateTasks() started.");
+        validateBatch(tasks);
+        try {
+            Set<UUID> ids = tasks.stream()
+                    .filter(task -> task != null && task.getId() != null)
+                    .map(Task::getId)
+                    .collect(Collectors.toSet());
+            Map<UUID, Task> existing = taskRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            LocalDateTime now = LocalDateTime.now();
+            List<BatchItemResultDto> results = new ArrayList<>(tasks.size());
+            List<Task> changed = new ArrayList<>();
+            Map<UUID, TaskState> previous = new HashMap<>();
+            for (int i = 0; i < tasks.size(); i++) {
+                Task updated = tasks.get(i);
+                if (updated == null || updated.getId() == null) {
+                    results.add(batchFailure(i, null, "Task ID and updated task must not be null."));
+                    continue;
+                }
+                Task task = existing.get(updated.getId());
+                if (task == null) {
+                    results.add(batchFailure(i, updated.getId(), "Task not found with ID: " + updated.getId()));
+                    continue;
+                }
+                if (isStale(task, updated)) {
+                    results.add(batchFailure(i, updated.getId(), "Task was modified by another request: " + updated.getId()));
+                    continue;
+                }
+                previous.putIfAbsent(task.getId(), TaskState.of(task));
+                applyUpdate(task, updated, now);
+                changed.add(task);
+                results.add(batchSuccess(i, task.getId()));
+            }
+            // The tasks are managed, so the flush turns the changes into batched UPDATE statements.
+            taskRepository.saveAll(changed);
+            taskRepository.flush();
+            // A task listed twice is written once, so it gets one event from its first to its final state.
+            changed.stream().distinct().forEach(task -> eventPublisher.publishEvent(
+                    TaskChangedEvent.of(TaskChangeType.UPDATED, task, previous.get(task.getId()))));
+            log.info("Batch update finished. Updated: {}, Rejected: {}", changed.size(), tasks.size() - changed.size());
+            return BatchResultDto.of(results);
+        } catch (Exception e) {
+            log.error("Error occurred while updating tasks in batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to update tasks", e);
+        }
+    }
+
+    /**
+     * This method is to delete several tasks and their comments in one transaction. With soft delete the tasks
+     * are tombstoned with one statement and purged later. The statement returns the rows it changed, so a task
+     * deleted concurrently by another request is reported as not found here and gets only one event
+     * @param ids
+     * @return batchResult with one entry per submitted id
+     */
+    @Override
+    @Transactional
+    public BatchResultDto deleteTasks(List<UUID> ids) {
+        log.info("TaskServiceImpl.deleteTasks() started.");
+        validateBatch(ids);
+        try {
+            Set<UUID> requested = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+            List<TaskDto> deleted = requested.isEmpty() ? List.of() : deleteAllReturning(requested);
+            Map<UUID, TaskState> removed = deleted.stream().collect(Collectors.toMap(TaskDto::getId, TaskState::of));
+
+            List<BatchItemResultDto> results = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                UUID id = ids.get(i);
+                if (id == null) {
+                    results.add(batchFailure(i, null, "Task ID must not be null."));
+                } else if (!removed.containsKey(id)) {
+                    results.add(batchFailure(i, id, "Task not found with ID: " + id));
+                } else {
+                    results.add(batchSuccess(i, id));
+                }
+            }
+            removed.forEach((id, state) -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id, state)));
+            log.info("Batch delete finished. Deleted: {}, Rejected: {}", removed.size(), ids.size() - removed.size());
+            return BatchResultDto.of(results);
+        } catch (Exception e) {
+            log.error("Error occurred while deleting tasks in batch: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to delete tasks", e);
+        }
+    }
+
+    private Optional<TaskDto> deleteReturning(UUID id) {
+        if (taskPurger.isSoftDeleteEnabled()) {
+            return taskRepository.tombstoneReturning(id, LocalDateTime.now());
+        }
+        // Bulk statements: the orphanRemoval cascade would load the comments and delete them one by one.
+        commentRepository.deleteByTaskIdIn(List.of(id));
+        return taskRepository.deleteReturning(id);
+    }
+
+    private List<TaskDto> deleteAllReturning(Set<UUID> ids) {
+        if (taskPurger.isSoftDeleteEnabled()) {
+            return taskRepository.tombstoneAllReturning(ids, LocalDateTime.now());
+        }
+        // Bulk statements skip the orphanRemoval cascade, so the comments go first.
+        commentRepository.deleteByTaskIdIn(ids);
+        return taskRepository.deleteAllReturning(ids);
+    }
+
+    /**
+     * Write paths modify the managed row, so they read it from the database rather than from the shared cache.
+     */
+    private Task loadTask(UUID id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("Task not found with ID: {}", id);
+                    return new EntityNotFoundException("Task not found with ID: " + id);
+                });
+    }
+
+    /**
+     * A client that sends the version it read gets a conflict instead of silently overwriting a newer write.
+     * Without a version the update applies to whatever is current; the version column still guards the
+     * window between this read and the commit.
+     */
+    private void checkVersion(Task task, Task updated) {
+        if (isStale(task, updated)) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+        }
+    }
+
+    private boolean isStale(Task task, Task updated) {
+        return updated.getVersion() != null && !updated.getVersion().equals(task.getVersion());
+    }
+
+    private void applyUpdate(Task task, Task updated, LocalDateTime now) {
+        task.setTitle(updated.getTitle());
+        task.setDescription(updated.getDescription());
+        task.setDueDate(updated.getDueDate());
+        task.setUpdatedAt(now);
+        task.setCompleted(updated.isCompleted());
+        task.setPriority(updated.getPriority());
+    }
+
+    private void validateBatch(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            log.warn("Batch is empty. Nothing to process.");
+            throw new IllegalArgumentException("Batch must contain at least one item.");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            log.warn("Batch of {} items exceeds the limit of {}.", items.size(), MAX_BATCH_SIZE);
+            throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE + " items.");
+        }
+    }
+
+    private BatchItemResultDto batchSuccess(int index, UUID id) {
+        return BatchItemResultDto.builder().index(index).id(id).success(true).build();
+    }
+
+    private BatchItemResultDto batchFailure(int index, UUID id, String error) {
+        return BatchItemResultDto.builder().index(index).id(id).success(false).error(error).build();
+    }
+
+    /**
+     * Running totals of one import. Only the first MAX_IMPORT_ERRORS rejected lines are listed, so a bad file
+     * can not grow the summary without bound.
+     */
+    private static final class ImportProgress {
+        private long lines;
+        private long imported;
+        private long failed;
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+
+        private void fail(long line, String error) {
+            failed++;
+            if (errors.size() < MAX_IMPORT_ERRORS) {
+                errors.add(new ImportErrorDto(line, error));
+            }
+        }
+
+        private ImportResultDto toResult() {
+            return new ImportResultDto(lines, imported, failed, failed > errors.size(), errors);
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package com.todo.todo_list.stats;
+
+import com.todo.todo_list.dto.TaskStatsDto;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.event.TaskState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Task counts for the dashboard, kept in memory and adjusted by every committed task change instead of being
+ * recounted with GROUP BY on each request. The counters are loaded from the database once at startup, after the
+ * schema is in place and before the server accepts requests, so no committed change can fall between the count
+ * and the first event.
+ *
+ * Open tasks are also counted per due date, so the overdue and due-today totals follow the calendar: when the
+ * day changes, the open tasks of the days that have passed move into the overdue total.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@Slf4j
+public class TaskStatistics implements SmartInitializingSingleton {
+
+    private static final String COUNT_BY_STATE =
+            "SELECT completed, priority_level, due_date, COUNT(*) AS tasks FROM task WHERE deleted = FALSE "
+                    + "GROUP BY completed, priority_level, due_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    private long total;
+    private long completed;
+    private long overdue;
+    private final Map<String, Long> byPriority = new TreeMap<>();
+    private final NavigableMap<LocalDate, Long> openByDueDate = new TreeMap<>();
+    private LocalDate today;
+    private boolean stale;
+
+    @Autowired
+    public TaskStatistics(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Clock.systemDefaultZone());
+    }
+
+    TaskStatistics(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.today = LocalDate.now(clock);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * This method is to count every task again, dropping the current counters
+     */
+    public synchronized void rebuild() {
+        log.info("TaskStatistics.rebuild() started.");
+        total = 0;
+        completed = 0;
+        overdue = 0;
+        byPriority.clear();
+        openByDueDate.clear();
+        today = LocalDate.now(clock);
+        stale = false;
+        jdbcTemplate.query(COUNT_BY_STATE, (RowCallbackHandler) rs -> {
+            Date dueDate = rs.getDate("due_date");
+            TaskState state = new TaskState(rs.getBoolean("completed"),
+                    TaskPriority.fromLevel(rs.getShort("priority_level")),
+                    dueDate == null ? null : dueDate.toLocalDate());
+            add(state, rs.getLong("tasks"));
+        });
+        log.info("Task statistics rebuilt with {} tasks.", total);
+    }
+
+    /**
+     * This method is to apply a committed task change to the counters
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.COMMENTED || stale) {
+            return;
+        }
+        rollDate();
+        if (event.type() != TaskChangeType.CREATED) {
+            if (event.previous() == null) {
+                // Without the old state the change can not be undone, so the next read counts again rather than drift.
+                log.warn("{} event for task {} has no previous state, statistics will be recounted.",
+                        event.type(), event.taskId());
+                stale = true;
+                return;
+            }
+            add(event.previous(), -1);
+        }
+        if (event.type() != TaskChangeType.DELETED) {
+            add(event.current(), 1);
+        }
+    }
+
+    /**
+     * This method is to return the current counts. The work does not depend on the number of tasks, except for
+     * the one recount after an event that could not be applied
+     * @return taskStats
+     */
+    public synchronized TaskStatsDto snapshot() {
+        if (stale) {
+            rebuild();
+        }
+        rollDate();
+        return TaskStatsDto.builder()
+                .total(total)
+                .completed(completed)
+                .open(total - completed)
+                .overdue(overdue)
+                .dueToday(openByDueDate.getOrDefault(today, 0L))
+                .byPriority(new TreeMap<>(byPriority))
+                .date(today)
+                .build();
+    }
+
+    private void add(TaskState state, long count) {
+        total += count;
+        byPriority.merge(priorityKey(state.priority()), count, TaskStatistics::sumOrRemove);
+        if (state.completed()) {
+            completed += count;
+            return;
+        }
+        if (state.dueDate() != null) {
+            openByDueDate.merge(state.dueDate(), count, TaskStatistics::sumOrRemove);
+            if (state.dueDate().isBefore(today)) {
+                overdue += count;
+            }
+        }
+    }
+
+    /**
+     * Moves the open tasks of the days between the last seen date and today into the overdue total. Each day is
+     * moved once, so the cost is spread over the calls that follow midnight.
+     */
+    private void rollDate() {
+        LocalDate now = LocalDate.now(clock);
+        if (now.equals(today)) {
+            return;
+        }
+        if (now.isAfter(today)) {
+            openByDueDate.subMap(today, true, now, false).values().forEach(count -> overdue += count);
+        } else {
+            // The clock went back; recount from the per-day counts instead of guessing.
+            overdue = openByDueDate.headMap(now, false).values().stream().mapToLong(Long::longValue).sum();
+        }
+        today = now;
+    }
+
+    private static String priorityKey(TaskPriority priority) {
+        return (priority == null ? TaskPriority.NONE : priority).getLabel();
+    }
+
+    private static Long sumOrRemove(Long current, Long delta) {
+        long sum = current + delta;
+        return sum == 0 ? null : sum;
+    }
+}
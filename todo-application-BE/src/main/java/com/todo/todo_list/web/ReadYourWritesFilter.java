@@ -0,0 +1,87 @@
+package com.todo.todo_list.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.todo.todo_list.datasource.ReplicaRouting;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client on the primary for a short window after its own write, so it sees what it just saved even when
+ * the replica is still behind. Clients are told apart by the X-Client-Id header, or by their address when they
+ * do not send one; clients behind one proxy then share the window, which only costs extra primary reads.
+ * The window is recorded when the write starts, before its response can reach the client, and again when it
+ * ends, so a write that runs longer than the window is still followed by a full window on the primary.
+ *
+ * Only registered when a read replica is configured.
+ *
+ * @author by piyumi_navodani
+ */
+@Slf4j
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final String API_PREFIX = "/api/";
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window, long maximumClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumClients)
+                .build();
+        log.info("Reads stay on the primary for {} after a client's own write.", window);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = clientOf(request);
+        if (READ_METHODS.contains(request.getMethod())) {
+            if (recentWriters.getIfPresent(client) == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            try (ReplicaRouting.Scope ignored = ReplicaRouting.requirePrimary()) {
+                chain.doFilter(request, response);
+            }
+            return;
+        }
+        recentWriters.put(client, Boolean.TRUE);
+        try (ReplicaRouting.Scope ignored = ReplicaRouting.requirePrimary()) {
+            chain.doFilter(request, response);
+        } finally {
+            // The commit may land only now; restart the window from here.
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * This method is to check whether the client wrote recently enough to be kept on the primary
+     * @param client
+     * @return recentWriter
+     */
+    public boolean isRecentWriter(final String client) {
+        return recentWriters.getIfPresent(client) != null;
+    }
+
+    private static String clientOf(final HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId == null || clientId.isBlank() ? request.getRemoteAddr() : clientId;
+    }
+}
@@ -0,0 +1,120 @@
+package com.todo.todo_list.web;
+
+import com.todo.todo_list.entity.generator.UuidV7;
+import com.todo.todo_list.logging.SampledLogTurboFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Puts the request id and endpoint of every task API request in the MDC, so each line logged while handling it
+ * carries them, and closes the request with one line holding the status and duration.
+ *
+ * Only success-sample-rate of the requests log their INFO lines; the choice is made here, once per request, and
+ * SampledLogTurboFilter drops the lines of the others. Failed requests (an exception or a 5xx status) always log
+ * their closing line as a warning, as do warnings and errors logged along the way.
+ *
+ * The request id is taken from X-Request-Id when the caller sends a usable one, otherwise a new one is made, and
+ * is echoed in the response either way.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID = "requestId";
+    public static final String ENDPOINT = "endpoint";
+    public static final String DURATION = "durationMs";
+
+    private static final String API_PREFIX = "/api/";
+    // Caller ids end up in every log line, so only short plain ones are taken over.
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final double sampleRate;
+
+    public RequestLoggingFilter(@Value("${todo.logging.success-sample-rate:1.0}") double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("todo.logging.success-sample-rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+        log.info("Logging {}% of successful requests.", sampleRate * 100);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String requestId = requestIdOf(request);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(REQUEST_ID, requestId);
+        MDC.put(ENDPOINT, request.getMethod() + " " + request.getRequestURI());
+        if (!isSampled()) {
+            MDC.put(SampledLogTurboFilter.SAMPLED, SampledLogTurboFilter.NOT_SAMPLED);
+        }
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            try {
+                logCompletion(request, response, start, completed);
+            } finally {
+                MDC.remove(REQUEST_ID);
+                MDC.remove(ENDPOINT);
+                MDC.remove(DURATION);
+                MDC.remove(SampledLogTurboFilter.SAMPLED);
+            }
+        }
+    }
+
+    private void logCompletion(HttpServletRequest request, HttpServletResponse response, long start,
+                               boolean completed) {
+        MDC.put(DURATION, Long.toString(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        // The route template groups the lines of one endpoint; it is only known once the request was mapped.
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            MDC.put(ENDPOINT, request.getMethod() + " " + pattern);
+        }
+        int status = response.getStatus();
+        if (!completed) {
+            log.warn("Request failed with an exception.");
+        } else if (status >= 500) {
+            log.warn("Request failed with status {}.", status);
+        } else {
+            log.info("Request completed with status {}.", status);
+        }
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static String requestIdOf(final HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        return requestId != null && VALID_REQUEST_ID.matcher(requestId).matches()
+                ? requestId
+                : UuidV7.next().toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.todo.todo_list.web;
+
+import com.todo.todo_list.dto.CommonResponse;
+import com.todo.todo_list.ingest.CommentBufferFullException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * @author by piyumi_navodani
+ */
+@RestControllerAdvice
+@Slf4j
+public class RestExceptionHandler {
+
+    /**
+     * This method is to answer invalid request input, such as an unknown sort or filter type, a malformed or
+     * mismatched cursor or a page size out of range, with 400 instead of a server error
+     * @param e
+     * @return response
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<CommonResponse> handleBadRequest(IllegalArgumentException e) {
+        log.warn("Rejected invalid request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new CommonResponse(e.getMessage(), HttpStatus.BAD_REQUEST, null));
+    }
+
+    /**
+     * This method is to answer a lost-update conflict with 409, so the client can reload the task and retry
+     * @param e
+     * @return response
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<CommonResponse> handleConflict(OptimisticLockingFailureException e) {
+        log.warn("Rejected concurrent modification: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new CommonResponse("The task was changed by another request. Reload it and try again.",
+                        HttpStatus.CONFLICT, null));
+    }
+
+    /**
+     * This method is to answer a full comment buffer with 503, asking the client to retry shortly
+     * @param e
+     * @return response
+     */
+    @ExceptionHandler(CommentBufferFullException.class)
+    public ResponseEntity<CommonResponse> handleBufferFull(CommentBufferFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new CommonResponse(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, null));
+    }
+}
@@ -0,0 +1,248 @@
+package com.todo.todo_list.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.event.TaskReminderEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events feed of committed task changes. Subscribers are async requests, so an idle one holds
+ * a connection but no thread. Each has a small bounded queue that a virtual thread drains; publishing only
+ * appends to the queues, so a slow client never blocks the writer, and a client whose queue overflows is
+ * disconnected. EventSource reconnects with Last-Event-ID and gets the missed events from a replay buffer,
+ * or a {@code reset} event when they are no longer there and the client has to reload. Due and overdue
+ * reminders go out on the same feed.
+ *
+ * @author by piyumi_navodani
+ */
+@Component
+@Slf4j
+public class TaskChangeFeed {
+
+    static final String RESET = "reset";
+
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final int replaySize;
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<FeedEvent> replay = new ArrayDeque<>();
+    // Ids continue from the clock, so an id from before a restart is older than anything in the replay buffer.
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-feed-heartbeat").daemon(true).factory());
+
+    public TaskChangeFeed(ObjectMapper objectMapper,
+                          @Value("${todo.events.max-subscribers:10000}") int maxSubscribers,
+                          @Value("${todo.events.subscriber-queue:256}") int queueCapacity,
+                          @Value("${todo.events.replay-size:1000}") int replaySize,
+                          @Value("${todo.events.timeout:30m}") Duration timeout,
+                          @Value("${todo.events.heartbeat:20s}") Duration heartbeatInterval) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.replaySize = replaySize;
+        this.timeoutMillis = timeout.toMillis();
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * This method is to open a subscription
+     * @param lastEventId id of the last event the client received, or null for a new client
+     * @return emitter, or empty when the node already has the maximum number of subscribers
+     */
+    public Optional<SseEmitter> subscribe(final Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            log.warn("Rejecting task feed subscriber: {} already connected.", subscribers.size());
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        // Registered and caught up under the replay lock, so no event is missed or delivered twice.
+        // The first write sends the response headers, so EventSource reports the connection as open right away.
+        subscriber.enqueue(FeedEvent.HEARTBEAT);
+        synchronized (replay) {
+            if (lastEventId != null) {
+                catchUp(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return Optional.of(emitter);
+    }
+
+    /**
+     * This method is to push a committed change to every subscriber
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        broadcast(event.type().name(), event.taskId(), event);
+    }
+
+    /**
+     * This method is to push a due or overdue reminder to every subscriber
+     * @param event
+     */
+    @EventListener
+    public void onTaskReminder(TaskReminderEvent event) {
+        broadcast(event.type().name(), event.taskId(), event);
+    }
+
+    /**
+     * This method is to return the number of open subscriptions
+     * @return subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (Subscriber subscriber : List.copyOf(subscribers)) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    private void broadcast(String type, UUID taskId, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize {} event for task {}: {}", type, taskId, e.getMessage());
+            return;
+        }
+        synchronized (replay) {
+            FeedEvent feedEvent = new FeedEvent(sequence.incrementAndGet(), type.toLowerCase(Locale.ROOT), data);
+            replay.addLast(feedEvent);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(feedEvent);
+            }
+        }
+    }
+
+    private void catchUp(Subscriber subscriber, long lastEventId) {
+        FeedEvent oldest = replay.peekFirst();
+        if (lastEventId == sequence.get()) {
+            return;
+        }
+        // Unknown id (another process or node), events already dropped from the buffer, or more missed events
+        // than the subscriber queue holds: a reload is cheaper than a replay that would overflow.
+        if (oldest == null || lastEventId > sequence.get() || lastEventId < oldest.id() - 1
+                || sequence.get() - lastEventId >= queueCapacity) {
+            subscriber.enqueue(new FeedEvent(sequence.get(), RESET, "{}"));
+            return;
+        }
+        for (FeedEvent event : replay) {
+            if (event.id() > lastEventId) {
+                subscriber.enqueue(event);
+            }
+        }
+    }
+
+    /**
+     * A comment line every interval keeps proxies from closing idle streams, and finds clients that went
+     * away without closing: the write fails and the subscriber is dropped.
+     */
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(FeedEvent.HEARTBEAT);
+        }
+    }
+
+    private record FeedEvent(long id, String name, String data) {
+        static final FeedEvent HEARTBEAT = new FeedEvent(-1, null, null);
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<FeedEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void enqueue(FeedEvent event) {
+            if (!queue.offer(event)) {
+                log.warn("Task feed subscriber fell {} events behind. Disconnecting it.", queueCapacity);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                FeedEvent event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event.toSse());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client is gone; the emitter's error callback usually removes it as well.
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event offered after the last poll but before the flag was cleared still needs a sender.
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void close() {
+            if (subscribers.remove(this)) {
+                queue.clear();
+                emitter.complete();
+            }
+        }
+    }
+}
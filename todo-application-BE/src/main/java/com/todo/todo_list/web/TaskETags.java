@@ -0,0 +1,65 @@
+package com.todo.todo_list.web;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Weak ETags for task responses, computed from what the response is built from instead of its serialized
+ * bytes. Every write bumps the task version and every comment changes the comment count, so (id, version,
+ * comment count) identifies the content of a task. They are weak because the same content goes out gzipped or
+ * not, and Tomcat does not compress a response with a strong ETag. If-None-Match compares them weakly anyway.
+ *
+ * @author by piyumi_navodani
+ */
+public final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    /**
+     * This method is to build the ETag of one task
+     * @param task
+     * @param includeComments the response with comments is a different representation
+     * @return etag
+     */
+    public static String of(TaskDto task, boolean includeComments) {
+        return "W/\"" + task.getId() + "-" + task.getVersion() + "-" + task.getCommentCount()
+                + (includeComments ? "-c" : "") + "\"";
+    }
+
+    /**
+     * This method is to build the ETag of a list page from its rows, in order, and its next cursor
+     * @param page
+     * @return etag
+     */
+    public static String of(TaskPageDto page) {
+        MessageDigest digest = sha256();
+        ByteBuffer row = ByteBuffer.allocate(4 * Long.BYTES);
+        for (TaskDto task : page.getItems()) {
+            row.clear();
+            row.putLong(task.getId().getMostSignificantBits())
+                    .putLong(task.getId().getLeastSignificantBits())
+                    .putLong(task.getVersion() == null ? -1 : task.getVersion())
+                    .putLong(task.getCommentCount() == null ? -1 : task.getCommentCount());
+            digest.update(row.array());
+        }
+        if (page.getNextCursor() != null) {
+            digest.update(page.getNextCursor().getBytes(StandardCharsets.UTF_8));
+        }
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
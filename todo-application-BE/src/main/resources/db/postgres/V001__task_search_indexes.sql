@@ -0,0 +1,10 @@
+-- Full-text and trigram indexes used by PostgresTaskSearchEngine.
+-- The indexed expressions must stay identical to the ones in the search query.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_search_vector ON task USING GIN (
+    (setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+     setweight(to_tsvector('simple', coalesce(description, '')), 'B'))
+);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_title_trgm ON task USING GIN (title gin_trgm_ops);
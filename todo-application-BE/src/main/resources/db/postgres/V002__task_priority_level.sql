@@ -0,0 +1,24 @@
+-- Task.priority moved from a free-form VARCHAR column to the SMALLINT priority_level column
+-- (0 none, 1 low, 2 medium, 3 high), which Hibernate adds with default 0.
+-- Copy the old values over once and keep the old column under another name instead of dropping it.
+-- Later runs, and databases created after the move, have no priority column and change nothing.
+-- The procedure body is a quoted string so the script splits on ';' cleanly.
+DO 'BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = current_schema()
+            AND table_name = ''task'' AND column_name = ''priority'') THEN
+        UPDATE task SET priority_level = CASE lower(trim(priority))
+                WHEN ''low'' THEN 1
+                WHEN ''medium'' THEN 2
+                WHEN ''high'' THEN 3
+                ELSE 0
+            END
+        WHERE priority IS NOT NULL AND priority_level = 0;
+        ALTER TABLE task RENAME COLUMN priority TO priority_legacy;
+    END IF;
+END';
+
+-- Sort indexes (see TaskSort). On databases created before sorting, idx_task_created_at and
+-- idx_task_completed_created_at already exist in ascending order; PostgreSQL reads them backwards for the
+-- descending list order, so they are left as they are.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_priority_created_at
+    ON task (priority_level DESC, created_at DESC, id DESC);
@@ -0,0 +1,34 @@
+-- Soft delete: every read of the task table carries deleted = FALSE, so the list indexes only need the live rows.
+-- Hibernate creates them as full indexes; the first time this script sees a full one it renames it out of the
+-- way, builds the partial index under the original name and drops the full one. Later runs find the partial
+-- indexes in place and change nothing. The procedure body is a quoted string so the script splits on ';' cleanly.
+DO 'DECLARE index_name text;
+BEGIN
+    FOREACH index_name IN ARRAY ARRAY[''idx_task_completed_due_date'', ''idx_task_completed_created_at'',
+            ''idx_task_due_date_created_at'', ''idx_task_created_at'', ''idx_task_priority_created_at''] LOOP
+        IF EXISTS (SELECT 1 FROM pg_indexes WHERE schemaname = current_schema() AND indexname = index_name
+                AND indexdef NOT LIKE ''% WHERE %'') THEN
+            EXECUTE format(''ALTER INDEX %I RENAME TO %I'', index_name, index_name || ''_full'');
+        END IF;
+    END LOOP;
+END';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_completed_due_date
+    ON task (completed, due_date) WHERE deleted = FALSE;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_completed_created_at
+    ON task (completed, created_at DESC, id DESC) WHERE deleted = FALSE;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_due_date_created_at
+    ON task (due_date, created_at, id) WHERE deleted = FALSE;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_created_at
+    ON task (created_at DESC, id DESC) WHERE deleted = FALSE;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_priority_created_at
+    ON task (priority_level DESC, created_at DESC, id DESC) WHERE deleted = FALSE;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_completed_due_date_full;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_completed_created_at_full;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_due_date_created_at_full;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_created_at_full;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_priority_created_at_full;
+
+-- The purge looks for tombstones; this index holds only them, so it stays tiny.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_tombstones ON task (id) WHERE deleted = TRUE;
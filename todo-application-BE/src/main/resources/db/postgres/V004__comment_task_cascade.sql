@@ -0,0 +1,13 @@
+-- Comments go with their task: a task delete that races a comment flush removes the flushed rows instead of
+-- failing on the foreign key. Hibernate created the key without ON DELETE; the first time this script sees such
+-- a key it replaces it under the same name, in one statement so the table is never without it. Later runs find
+-- nothing to change.
+DO 'DECLARE fk record;
+BEGIN
+    FOR fk IN SELECT c.conname FROM pg_constraint c
+            WHERE c.conrelid = to_regclass(''comment'') AND c.confrelid = to_regclass(''task'')
+                AND c.contype = ''f'' AND c.confdeltype <> ''c'' LOOP
+        EXECUTE format(''ALTER TABLE comment DROP CONSTRAINT %I, ADD CONSTRAINT %I FOREIGN KEY (task_id) ''
+                || ''REFERENCES task (id) ON DELETE CASCADE'', fk.conname, fk.conname);
+    END LOOP;
+END';
@@ -0,0 +1,39 @@
+package com.todo.todo_list;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock for tests that need the date to change. It stays at noon UTC of the date it is set to.
+ *
+ * @author by piyumi_navodani
+ */
+public class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    public MutableClock(LocalDate date) {
+        setDate(date);
+    }
+
+    public void setDate(LocalDate date) {
+        this.instant = date.atTime(12, 0).toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,81 @@
+package com.todo.todo_list.controller;
+
+import com.todo.todo_list.repository.specification.TaskCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Invalid list parameters are answered with 400 and the reason, not with a server error.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskControllerValidationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testUnknownSortIsRejected() throws Exception {
+        assertBadRequest(list("sort", "title"), "Unsupported sort");
+    }
+
+    @Test
+    void testUnknownFilterTypeIsRejected() throws Exception {
+        assertBadRequest(list("filterType", "someday"), "Unsupported filter type");
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() throws Exception {
+        assertBadRequest(list("cursor", "not-a-cursor"), "cursor");
+    }
+
+    @Test
+    void testCursorOfAnotherSortIsRejected() throws Exception {
+        String cursor = new TaskCursor(LocalDateTime.of(2025, 1, 1, 9, 0), UUID.randomUUID()).encode();
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/tasks")
+                .param("sort", "priority")
+                .param("cursor", cursor)).andReturn().getResponse();
+
+        assertBadRequest(response, "Cursor was not issued for sort");
+    }
+
+    @Test
+    void testPageSizeOutOfRangeIsRejected() throws Exception {
+        assertBadRequest(list("size", "0"), "size");
+        assertBadRequest(list("size", "100000"), "size");
+    }
+
+    @Test
+    void testSearchCannotBeSortedOrPaged() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/tasks")
+                .param("search", "report")
+                .param("sort", "priority")).andReturn().getResponse();
+
+        assertBadRequest(response, "cannot be sorted or paged");
+    }
+
+    private MockHttpServletResponse list(String parameter, String value) throws Exception {
+        return mockMvc.perform(get("/api/tasks").param(parameter, value)).andReturn().getResponse();
+    }
+
+    private static void assertBadRequest(MockHttpServletResponse response, String reason) throws Exception {
+        assertEquals(400, response.getStatus(), response.getContentAsString());
+        assertTrue(response.getContentAsString().toLowerCase().contains(reason.toLowerCase()),
+                response.getContentAsString());
+    }
+}
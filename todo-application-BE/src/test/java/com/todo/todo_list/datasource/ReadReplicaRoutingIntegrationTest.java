@@ -0,0 +1,151 @@
+package com.todo.todo_list.datasource;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.CommentRepository;
+import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.service.TaskService;
+import com.todo.todo_list.web.ReadYourWritesFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Read replica routing against two embedded H2 databases. Nothing replicates between them on its own: the
+ * replica only catches up when a test copies the primary over, so every read shows which database answered it.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "todo.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "todo.datasource.replica.username=sa",
+        "todo.datasource.replica.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        commentRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        replicate();
+    }
+
+    @Test
+    void testWritesGoToThePrimaryAndReadsToTheReplica() {
+        Task task = createTask("Not replicated yet");
+
+        assertEquals(1, count(primary));
+        assertEquals(0, count(replica));
+        assertTrue(listedIds().isEmpty());
+
+        replicate();
+        assertEquals(List.of(task.getId()), listedIds());
+    }
+
+    @Test
+    void testPrimaryCanBeRequiredForReads() {
+        Task task = createTask("Read from the primary");
+
+        assertEquals(List.of(task.getId()), ReplicaRouting.onPrimary(this::listedIds));
+        assertFalse(ReplicaRouting.isPrimaryRequired());
+        assertTrue(listedIds().isEmpty());
+    }
+
+    @Test
+    void testTaskDetailsAreCachedFromThePrimary() {
+        Task task = createTask("Cached");
+
+        assertEquals("Cached", taskService.getTaskDetails(task.getId(), false).getTitle());
+    }
+
+    @Test
+    void testClientReadsItsOwnWriteBeforeTheReplicaCatchesUp() throws Exception {
+        MockHttpServletResponse created = perform(post("/api/tasks")
+                .header(ReadYourWritesFilter.CLIENT_ID_HEADER, "writer")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"Just saved\"}"));
+        assertEquals(200, created.getStatus());
+
+        String writerList = perform(get("/api/tasks").header(ReadYourWritesFilter.CLIENT_ID_HEADER, "writer"))
+                .getContentAsString();
+        String otherList = perform(get("/api/tasks").header(ReadYourWritesFilter.CLIENT_ID_HEADER, "reader"))
+                .getContentAsString();
+
+        assertTrue(writerList.contains("Just saved"), writerList);
+        assertFalse(otherList.contains("Just saved"), otherList);
+    }
+
+    private Task createTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.createTask(task);
+    }
+
+    private List<UUID> listedIds() {
+        return taskService.getTasks(null, null, null, null, null, null, null).getItems().stream()
+                .map(TaskDto::getId)
+                .toList();
+    }
+
+    private int count(JdbcTemplate database) {
+        Integer count = database.queryForObject("SELECT COUNT(*) FROM task", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    // Copies schema and rows, standing in for replication catching up.
+    private void replicate() {
+        replica.execute("DROP ALL OBJECTS");
+        primary.queryForList("SCRIPT", String.class).stream()
+                .filter(statement -> !statement.startsWith("--"))
+                .forEach(replica::execute);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+}
@@ -0,0 +1,53 @@
+package com.todo.todo_list.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.todo_list.dto.TaskDto;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class TaskPriorityTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void testJsonKeepsTheLowerCaseLabels() throws Exception {
+        TaskDto task = new TaskDto();
+        task.setTitle("Typed");
+        task.setPriority(TaskPriority.HIGH);
+
+        String json = objectMapper.writeValueAsString(task);
+
+        assertTrue(json.contains("\"priority\":\"high\""), json);
+        assertEquals(TaskPriority.HIGH, objectMapper.readValue(json, TaskDto.class).getPriority());
+    }
+
+    @Test
+    void testNoPriorityIsWrittenAsNull() throws Exception {
+        TaskDto task = new TaskDto();
+        task.setTitle("Untyped");
+        task.setPriority(TaskPriority.NONE);
+
+        assertTrue(objectMapper.writeValueAsString(task).contains("\"priority\":null"));
+    }
+
+    @Test
+    void testFromIgnoresCaseAndRejectsUnknownValues() {
+        assertEquals(TaskPriority.MEDIUM, TaskPriority.from(" Medium "));
+        assertEquals(TaskPriority.NONE, TaskPriority.from(null));
+        assertEquals(TaskPriority.NONE, TaskPriority.from(""));
+        assertThrows(IllegalArgumentException.class, () -> TaskPriority.from("urgent"));
+    }
+
+    @Test
+    void testLevelsRoundTrip() {
+        for (TaskPriority priority : TaskPriority.values()) {
+            assertEquals(priority, TaskPriority.fromLevel(priority.getLevel()));
+        }
+        assertEquals(TaskPriority.NONE, new TaskPriorityConverter().convertToEntityAttribute(null));
+        assertThrows(IllegalArgumentException.class, () -> TaskPriority.fromLevel((short) 4));
+    }
+}
@@ -0,0 +1,78 @@
+package com.todo.todo_list.entity.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class UuidV7Test {
+
+    @Test
+    void testVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7.timestamp(uuid) >= before);
+    }
+
+    @Test
+    void testIdsAreStrictlyIncreasing() {
+        UUID previous = UuidV7.next();
+        // More ids than the 12-bit counter holds, so the counter overflow into the timestamp is covered.
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = UuidV7.next();
+            assertTrue(current.compareTo(previous) > 0, previous + " should sort before " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void testClockMovingBackwardsKeepsOrder() {
+        long now = System.currentTimeMillis();
+        UUID first = UuidV7.next(now + 50);
+        UUID second = UuidV7.next(now);
+
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    @Test
+    void testUniqueAcrossThreads() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40_000, ids.size());
+    }
+
+    @Test
+    void testTimestampRejectsOtherVersions() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestamp(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.todo.todo_list.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.todo_list.dto.TaskDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class TaskExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void testNdjsonWritesOneObjectPerLine() throws Exception {
+        TaskDto first = task("First", "plain");
+        TaskDto second = task("Second", "with \"quotes\"\nand a line break");
+
+        String output = export(TaskExportFormat.NDJSON, first, second);
+
+        String[] lines = output.split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        JsonNode parsed = objectMapper.readTree(lines[1]);
+        assertEquals(second.getId().toString(), parsed.get("id").asText());
+        assertEquals(second.getDescription(), parsed.get("description").asText());
+        assertEquals(objectMapper.writeValueAsString(first), lines[0]);
+    }
+
+    @Test
+    void testCsvQuotesOnlyWhenNeeded() throws Exception {
+        TaskDto task = task("Plain title", "a, \"quoted\"\nvalue");
+
+        String output = export(TaskExportFormat.CSV, task);
+
+        String[] lines = output.split("\r\n", -1);
+        assertEquals("id,title,description,dueDate,completed,createdAt,updatedAt,priority,version,commentCount", lines[0]);
+        assertEquals(task.getId() + ",Plain title,\"a, \"\"quoted\"\"\nvalue\",2030-01-02,false,"
+                + "2030-01-01T10:15:30,2030-01-01T10:15:30,,3,2", lines[1]);
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void testFromNameIgnoresCase() {
+        assertEquals(TaskExportFormat.CSV, TaskExportFormat.fromName("Csv").orElseThrow());
+        assertTrue(TaskExportFormat.fromName("xml").isEmpty());
+    }
+
+    private String export(TaskExportFormat format, TaskDto... tasks) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TaskExportWriter writer = TaskExportWriter.open(format, objectMapper, out);
+        for (TaskDto task : tasks) {
+            writer.write(task);
+        }
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TaskDto task(String title, String description) {
+        LocalDateTime created = LocalDateTime.of(2030, 1, 1, 10, 15, 30);
+        return new TaskDto(UUID.randomUUID(), title, description, LocalDate.of(2030, 1, 2), false,
+                created, created, null, 3L, 2L);
+    }
+}
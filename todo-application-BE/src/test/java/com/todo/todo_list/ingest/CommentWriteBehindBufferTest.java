@@ -0,0 +1,193 @@
+package com.todo.todo_list.ingest;
+
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentWriteBehindBufferTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void testRejectsWhenDisabled() {
+        CommentWriteBehindBuffer buffer = buffer(false, 10, 10);
+        buffer.start();
+
+        assertFalse(buffer.isRunning());
+        assertThrows(CommentBufferFullException.class, () -> buffer.offer(pending(UUID.randomUUID())));
+    }
+
+    @Test
+    void testRejectsWhenFullAndDrainsOnStop() throws Exception {
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        CommentWriteBehindBuffer buffer = buffer(true, 2, 1);
+        buffer.start();
+
+        // The first comment is taken by the flusher, which then blocks; the next two fill the buffer.
+        buffer.offer(pending(UUID.randomUUID()));
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        buffer.offer(pending(UUID.randomUUID()));
+        buffer.offer(pending(UUID.randomUUID()));
+
+        assertEquals(2, buffer.pending());
+        assertThrows(CommentBufferFullException.class, () -> buffer.offer(pending(UUID.randomUUID())));
+
+        release.countDown();
+        buffer.stop();
+
+        assertFalse(buffer.isRunning());
+        assertEquals(0, buffer.pending());
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        assertThrows(CommentBufferFullException.class, () -> buffer.offer(pending(UUID.randomUUID())));
+    }
+
+    @Test
+    void testCommentRacingStopIsWrittenOrRejected() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.findExistingIds(any())).thenReturn(List.of(taskId));
+        List<Object> written = new CopyOnWriteArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> written.add(row[0]));
+            return new int[rows.size()];
+        });
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await();
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        CommentWriteBehindBuffer buffer = new CommentWriteBehindBuffer(true, 1, 1, Duration.ofMillis(20),
+                Duration.ofSeconds(5), Duration.ofSeconds(5), taskRepository, jdbcTemplate, transactionTemplate,
+                eventPublisher);
+        buffer.start();
+
+        // The flusher holds the first comment and the second fills the buffer, so the third waits for space
+        // while the buffer is told to stop.
+        buffer.offer(pending(taskId));
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        buffer.offer(pending(taskId));
+        PendingComment racing = pending(taskId);
+        CompletableFuture<Void> offered = CompletableFuture.runAsync(() -> buffer.offer(racing));
+        CompletableFuture<Void> stopped = CompletableFuture.runAsync(buffer::stop);
+        while (buffer.isRunning()) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        stopped.get(5, TimeUnit.SECONDS);
+
+        boolean rejected;
+        try {
+            offered.get(5, TimeUnit.SECONDS);
+            rejected = false;
+        } catch (ExecutionException e) {
+            assertInstanceOf(CommentBufferFullException.class, e.getCause());
+            rejected = true;
+        }
+        assertNotEquals(rejected, written.contains(racing.id()));
+        assertEquals(0, buffer.pending());
+    }
+
+    @Test
+    void testStopsAfterTheWebServer() {
+        // The web server's start/stop lifecycle runs one step below the graceful shutdown phase.
+        assertTrue(buffer(true, 10, 10).getPhase() < WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+    }
+
+    @Test
+    void testFlushWritesOneBatchAndSkipsDeletedTasks() {
+        runTransactionCallbacks();
+        UUID taskId = UUID.randomUUID();
+        UUID deletedTaskId = UUID.randomUUID();
+        when(taskRepository.findExistingIds(any())).thenReturn(List.of(taskId));
+        CommentWriteBehindBuffer buffer = buffer(true, 10, 10);
+
+        buffer.flush(List.of(pending(taskId), pending(deletedTaskId), pending(taskId)));
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 2));
+        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.commented(taskId));
+    }
+
+    @Test
+    void testFailedBatchIsRetriedOneByOne() {
+        runTransactionCallbacks();
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.findExistingIds(any())).thenReturn(List.of(taskId));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new IllegalStateException("constraint violation"))
+                .thenReturn(new int[]{1});
+        CommentWriteBehindBuffer buffer = buffer(true, 10, 10);
+
+        buffer.flush(List.of(pending(taskId), pending(taskId)));
+
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 1));
+    }
+
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> callback = invocation.getArgument(0);
+            callback.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private CommentWriteBehindBuffer buffer(boolean enabled, int capacity, int flushSize) {
+        return new CommentWriteBehindBuffer(enabled, capacity, flushSize, Duration.ofMillis(20),
+                Duration.ofMillis(20), Duration.ofSeconds(5), taskRepository, jdbcTemplate, transactionTemplate,
+                eventPublisher);
+    }
+
+    private static PendingComment pending(UUID taskId) {
+        return new PendingComment(UUID.randomUUID(), taskId, "comment", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,151 @@
+package com.todo.todo_list.ingest;
+
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.CommentPageDto;
+import com.todo.todo_list.entity.Comment;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.CommentRepository;
+import com.todo.todo_list.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comments go through the write-behind buffer into the real database. Not transactional, since the flusher
+ * commits on its own thread.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest(properties = {
+        "todo.comments.write-behind.enabled=true",
+        "todo.comments.write-behind.flush-size=25",
+        "todo.comments.write-behind.flush-interval=50ms"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class CommentWriteBehindIntegrationTest {
+    private static final int COMMENTS = 120;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentWriteBehindBuffer commentBuffer;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        commentBuffer.start();
+        // Native, so the tombstones the @SQLRestriction hides from the repositories go as well.
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM task");
+    }
+
+    @Test
+    void testQueuedCommentsAreFlushed() throws Exception {
+        Task task = createTask();
+        List<CommentDto> queued = queue(task, COMMENTS);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (commentRepository.count() < COMMENTS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(COMMENTS, commentRepository.count());
+        CommentPageDto page = taskService.getComments(task.getId(), 0, 100);
+        assertEquals(queued.get(0).getId(), page.getItems().get(0).getId());
+        assertEquals(queued.get(0).getText(), page.getItems().get(0).getText());
+    }
+
+    @Test
+    void testStopDrainsTheBuffer() {
+        Task task = createTask();
+        queue(task, COMMENTS);
+
+        commentBuffer.stop();
+
+        assertEquals(0, commentBuffer.pending());
+        assertEquals(COMMENTS, commentRepository.count());
+    }
+
+    @Test
+    void testCommentsOfDeletedTaskAreDropped() {
+        Task task = createTask();
+        Task deleted = createTask();
+        List<PendingComment> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(pending(task));
+            batch.add(pending(deleted));
+        }
+        taskService.deletTask(deleted.getId());
+
+        // Flushed here rather than queued, so none of them can reach the database before the delete.
+        commentBuffer.flush(batch);
+
+        assertEquals(3, countComments(task));
+        assertEquals(0, countComments(deleted));
+    }
+
+    @Test
+    void testTaskDeleteRemovesCommentsFlushedDuringIt() {
+        Task task = createTask();
+        // The delete has already removed the task's comments when the flush commits one more.
+        commentBuffer.flush(List.of(pending(task)));
+
+        assertEquals(1, jdbcTemplate.update("DELETE FROM task WHERE id = ?", task.getId()));
+
+        assertEquals(0, countComments(task));
+    }
+
+    @Test
+    void testFlushAfterTaskDeleteDropsTheComment() {
+        Task task = createTask();
+        Task kept = createTask();
+        jdbcTemplate.update("DELETE FROM task WHERE id = ?", task.getId());
+
+        commentBuffer.flush(List.of(pending(task), pending(kept)));
+
+        assertEquals(0, countComments(task));
+        assertEquals(1, countComments(kept));
+    }
+
+    private PendingComment pending(Task task) {
+        return new PendingComment(UUID.randomUUID(), task.getId(), "Flushed", LocalDateTime.now());
+    }
+
+    private int countComments(Task task) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comment WHERE task_id = ?", Integer.class,
+                task.getId());
+        return count == null ? 0 : count;
+    }
+
+    private Task createTask() {
+        Task task = new Task();
+        task.setTitle("Write-behind");
+        return taskService.createTask(task);
+    }
+
+    private List<CommentDto> queue(Task task, int count) {
+        List<CommentDto> queued = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Comment comment = new Comment();
+            comment.setText("Comment " + i);
+            queued.add(taskService.queueComment(task.getId(), comment));
+        }
+        return queued;
+    }
+}
@@ -0,0 +1,131 @@
+package com.todo.todo_list.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.CommentPageDto;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
+import com.todo.todo_list.entity.TaskPriority;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The hand-written serializers against the reflective ones, byte for byte, with mappers configured the way
+ * Spring Boot configures the application's.
+ *
+ * @author by piyumi_navodani
+ */
+class TaskJsonModuleTest {
+
+    @Test
+    void testTaskOutputIsUnchanged() throws Exception {
+        for (TaskDto task : tasks()) {
+            assertSameBytes(task, Locale.US);
+        }
+    }
+
+    @Test
+    void testPagesAndCommentsAreUnchanged() throws Exception {
+        assertSameBytes(TaskPageDto.builder().items(tasks()).nextCursor("MjAyNS0wMS0wMVQwOTowMHwx").build(),
+                Locale.US);
+        assertSameBytes(CommentPageDto.builder().items(comments()).page(0).size(20).hasNext(true).build(),
+                Locale.US);
+    }
+
+    @Test
+    void testMonthNamesFollowTheMapperLocale() throws Exception {
+        for (Locale locale : List.of(Locale.UK, Locale.GERMANY, Locale.FRANCE, Locale.JAPAN)) {
+            for (int month = 1; month <= 12; month++) {
+                TaskDto task = task("Month " + month, TaskPriority.LOW);
+                task.setCreatedAt(LocalDateTime.of(2025, month, 9, 7, 5));
+                assertSameBytes(task, locale);
+            }
+        }
+    }
+
+    @Test
+    void testDueDateFollowsTimestampSetting() throws Exception {
+        TaskDto task = task("Timestamps", TaskPriority.HIGH);
+        ObjectMapper reflective = new ObjectMapper().findAndRegisterModules();
+        ObjectMapper handWritten = new ObjectMapper().findAndRegisterModules().registerModule(new TaskJsonModule());
+
+        assertEquals(reflective.writeValueAsString(task), handWritten.writeValueAsString(task));
+    }
+
+    @Test
+    void testPrettyPrintedOutputIsUnchanged() throws Exception {
+        ObjectMapper reflective = mapper(Locale.US, false).enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectMapper handWritten = mapper(Locale.US, true).enable(SerializationFeature.INDENT_OUTPUT);
+        TaskDto task = tasks().get(0);
+
+        assertEquals(reflective.writeValueAsString(task), handWritten.writeValueAsString(task));
+    }
+
+    private static void assertSameBytes(Object value, Locale locale) throws Exception {
+        byte[] expected = mapper(locale, false).writeValueAsBytes(value);
+        byte[] actual = mapper(locale, true).writeValueAsBytes(value);
+        assertArrayEquals(expected, actual, () -> new String(expected) + "\n" + new String(actual));
+    }
+
+    private static ObjectMapper mapper(Locale locale, boolean handWritten) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .locale(locale);
+        if (handWritten) {
+            builder.modulesToInstall(new TaskJsonModule());
+        }
+        return builder.build();
+    }
+
+    private static List<TaskDto> tasks() {
+        List<TaskDto> tasks = new ArrayList<>();
+        TaskDto full = task("Report \"Q1\"\n\tdraft – ünïcode 📋", TaskPriority.HIGH);
+        full.setCommentCount(2L);
+        full.setComments(comments());
+        tasks.add(full);
+        tasks.add(task("Plain", TaskPriority.NONE));
+        tasks.add(new TaskDto());
+        TaskDto emptyComments = task("No comments", null);
+        emptyComments.setComments(List.of());
+        emptyComments.setCommentCount(0L);
+        tasks.add(emptyComments);
+        TaskDto farFuture = task("Far future", TaskPriority.MEDIUM);
+        farFuture.setCreatedAt(LocalDateTime.of(12025, 1, 1, 0, 0));
+        farFuture.setUpdatedAt(LocalDateTime.of(1, 12, 31, 23, 59));
+        farFuture.setDueDate(LocalDate.of(-5, 6, 1));
+        tasks.add(farFuture);
+        return tasks;
+    }
+
+    private static List<CommentDto> comments() {
+        return Arrays.asList(
+                new CommentDto(UUID.randomUUID(), "First <b>comment</b>", LocalDateTime.of(2025, 3, 4, 0, 0)),
+                new CommentDto(UUID.randomUUID(), null, null),
+                null);
+    }
+
+    private static TaskDto task(String title, TaskPriority priority) {
+        TaskDto task = new TaskDto();
+        task.setId(UUID.randomUUID());
+        task.setTitle(title);
+        task.setDescription("Prepare the quarterly report");
+        task.setDueDate(LocalDate.of(2025, 9, 30));
+        task.setCompleted(true);
+        task.setCreatedAt(LocalDateTime.of(2025, 9, 1, 13, 45, 30));
+        task.setUpdatedAt(LocalDateTime.of(2025, 12, 31, 23, 59, 59));
+        task.setPriority(priority);
+        task.setVersion(4L);
+        return task;
+    }
+}
@@ -0,0 +1,54 @@
+package com.todo.todo_list.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class SampledLogTurboFilterTest {
+
+    private final SampledLogTurboFilter filter = new SampledLogTurboFilter();
+    private final Logger logger = new LoggerContext().getLogger(SampledLogTurboFilterTest.class);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void testDropsInfoOfRequestsNotSampled() {
+        MDC.put(SampledLogTurboFilter.SAMPLED, SampledLogTurboFilter.NOT_SAMPLED);
+
+        assertEquals(FilterReply.DENY, decide(Level.INFO, null));
+        assertEquals(FilterReply.DENY, decide(Level.DEBUG, null));
+    }
+
+    @Test
+    void testAlwaysKeepsWarningsErrorsAndExceptions() {
+        MDC.put(SampledLogTurboFilter.SAMPLED, SampledLogTurboFilter.NOT_SAMPLED);
+
+        assertEquals(FilterReply.NEUTRAL, decide(Level.WARN, null));
+        assertEquals(FilterReply.NEUTRAL, decide(Level.ERROR, null));
+        assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, new IllegalStateException("boom")));
+    }
+
+    @Test
+    void testKeepsSampledRequestsAndLinesOutsideRequests() {
+        assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, null));
+
+        MDC.put(SampledLogTurboFilter.SAMPLED, "true");
+        assertEquals(FilterReply.NEUTRAL, decide(Level.INFO, null));
+    }
+
+    private FilterReply decide(Level level, Throwable t) {
+        return filter.decide(null, logger, level, "message", null, t);
+    }
+}
@@ -0,0 +1,62 @@
+package com.todo.todo_list.metrics;
+
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.TaskRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Transactional
+class TaskMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void testRequestRecordsStatementsAndServiceTiming() throws Exception {
+        Task task = new Task();
+        task.setTitle("Metrics");
+        task.setCreatedAt(LocalDateTime.now());
+        task = taskRepository.save(task);
+
+        mockMvc.perform(get("/api/tasks/{id}/comments", task.getId())).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get(SqlStatementMetricsInterceptor.METRIC_NAME)
+                .tag("uri", "/api/tasks/{id}/comments")
+                .tag("method", "GET")
+                .summary();
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.max() >= 1);
+
+        Timer service = meterRegistry.get("todo.task.service").tag("method", "getComments").timer();
+        assertTrue(service.count() >= 1);
+
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "task").meter());
+        assertNotNull(meterRegistry.find("todo.web.requests.available.permits").gauge());
+    }
+}
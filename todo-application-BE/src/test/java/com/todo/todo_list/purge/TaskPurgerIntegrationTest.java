@@ -0,0 +1,135 @@
+package com.todo.todo_list.purge;
+
+import com.todo.todo_list.config.DatabasePlatform;
+import com.todo.todo_list.entity.Comment;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.CommentRepository;
+import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.repository.TaskRepositoryCustomImpl;
+import com.todo.todo_list.service.TaskService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Soft delete and the purge, against the database. Not transactional, since the purge commits one batch at a
+ * time. The scheduled purge is pushed out of the way so only the test purges.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest(properties = "todo.tasks.purge.interval=1h")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskPurgerIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskPurger taskPurger;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TaskRepositoryCustomImpl taskRepositoryCustom;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        commentRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        // Tombstones left by other tests.
+        taskPurger.purge();
+    }
+
+    @Test
+    void testDeletedTaskIsHiddenUntilPurged() {
+        Task task = createTask("Tombstoned");
+        for (int i = 0; i < 2; i++) {
+            Comment comment = new Comment();
+            comment.setText("Comment " + i);
+            taskService.addComment(task.getId(), comment);
+        }
+
+        taskService.deletTask(task.getId());
+
+        assertEquals(1, count("SELECT COUNT(*) FROM task WHERE id = ? AND deleted = TRUE", task.getId()));
+        assertEquals(2, count("SELECT COUNT(*) FROM comment WHERE task_id = ?", task.getId()));
+        assertFalse(taskRepository.existsById(task.getId()));
+        assertTrue(taskService.getTasks(null, null, null, null, null, null, null).getItems().isEmpty());
+        assertThrows(EntityNotFoundException.class, () -> taskService.getComments(task.getId(), null, null));
+        assertThrows(EntityNotFoundException.class, () -> taskService.toggleCompletion(task.getId(), true));
+        assertThrows(EntityNotFoundException.class, () -> taskService.deletTask(task.getId()));
+
+        assertEquals(1, taskPurger.purge());
+        assertEquals(0, count("SELECT COUNT(*) FROM task WHERE id = ?", task.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM comment WHERE task_id = ?", task.getId()));
+    }
+
+    @Test
+    void testPurgeRunsInBoundedBatches() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(createTask("Batch " + i).getId());
+        }
+        Task kept = createTask("Kept");
+        taskService.deleteTasks(ids);
+
+        TaskPurger purger = new TaskPurger(true, 2, 2, Duration.ofHours(1), jdbcTemplate, transactionTemplate);
+
+        assertEquals(4, purger.purge());
+        assertEquals(1, purger.purge());
+        assertEquals(0, purger.purge());
+        assertEquals(1, count("SELECT COUNT(*) FROM task WHERE deleted = FALSE AND id = ?", kept.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM task"));
+    }
+
+    @Test
+    void testToggleFallbackLeavesTombstoneAlone() {
+        Task task = createTask("Tombstoned");
+        taskService.deletTask(task.getId());
+
+        // Databases without UPDATE ... RETURNING take the update-then-read path.
+        ReflectionTestUtils.setField(taskRepositoryCustom, "platform", DatabasePlatform.OTHER);
+        try {
+            assertTrue(taskRepository.updateCompleted(task.getId(), true, LocalDateTime.now()).isEmpty());
+        } finally {
+            ReflectionTestUtils.setField(taskRepositoryCustom, "platform", null);
+        }
+        assertEquals(1, count("SELECT COUNT(*) FROM task WHERE id = ? AND completed = FALSE AND version = 1",
+                task.getId()));
+    }
+
+    private Task createTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.createTask(task);
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,102 @@
+package com.todo.todo_list.reminder;
+
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The reminder schedule follows writes made through the service, and a schedule loaded from the database
+ * afterwards holds the same tasks. Not transactional, since the schedule only moves when a transaction commits.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskReminderEngineIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskReminderEngine taskReminderEngine;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        // Other tests clean up with bulk deletes that publish no events.
+        tearDown();
+        taskReminderEngine.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM task");
+    }
+
+    @Test
+    void testScheduleFollowsTaskChanges() {
+        LocalDate today = LocalDate.now();
+        Task tomorrow = taskService.createTask(newTask("Tomorrow", false, today.plusDays(1)));
+        Task dueToday = taskService.createTask(newTask("Today", false, today));
+        Task yesterday = taskService.createTask(newTask("Yesterday", false, today.minusDays(1)));
+        Task done = taskService.createTask(newTask("Done", true, today.plusDays(1)));
+        Task undated = taskService.createTask(newTask("Undated", false, null));
+        Task toDelete = taskService.createTask(newTask("Deleted", false, today.plusDays(4)));
+
+        assertEquals(today.plusDays(1), taskReminderEngine.scheduledDate(tomorrow.getId()));
+        assertEquals(today, taskReminderEngine.scheduledDate(dueToday.getId()));
+        assertNull(taskReminderEngine.scheduledDate(yesterday.getId()));
+        assertNull(taskReminderEngine.scheduledDate(done.getId()));
+        assertNull(taskReminderEngine.scheduledDate(undated.getId()));
+
+        taskService.updateTask(tomorrow.getId(), newTask("Next week", false, today.plusDays(7)));
+        taskService.toggleCompletion(dueToday.getId(), true);
+        taskService.toggleCompletion(done.getId(), false);
+        taskService.deletTask(toDelete.getId());
+        taskService.createTasks(List.of(newTask("Batch", false, today.plusDays(2))));
+
+        assertEquals(today.plusDays(7), taskReminderEngine.scheduledDate(tomorrow.getId()));
+        assertNull(taskReminderEngine.scheduledDate(dueToday.getId()));
+        assertEquals(today.plusDays(1), taskReminderEngine.scheduledDate(done.getId()));
+        assertNull(taskReminderEngine.scheduledDate(toDelete.getId()));
+        assertEquals(3, taskReminderEngine.scheduledCount());
+
+        TaskReminderEngine reloaded = new TaskReminderEngine(jdbcTemplate, eventPublisher, Duration.ofMinutes(1));
+        reloaded.rebuild();
+        assertEquals(taskReminderEngine.scheduledCount(), reloaded.scheduledCount());
+        for (Task task : taskRepository.findAll()) {
+            assertEquals(taskReminderEngine.scheduledDate(task.getId()), reloaded.scheduledDate(task.getId()));
+        }
+    }
+
+    private static Task newTask(String title, boolean completed, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setCompleted(completed);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
@@ -0,0 +1,139 @@
+package com.todo.todo_list.reminder;
+
+import com.todo.todo_list.MutableClock;
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.event.TaskReminderEvent;
+import com.todo.todo_list.event.TaskReminderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class TaskReminderEngineTest {
+    private static final LocalDate TODAY = LocalDate.of(2030, 3, 10);
+
+    private final MutableClock clock = new MutableClock(TODAY);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private TaskReminderEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new TaskReminderEngine(mock(JdbcTemplate.class), eventPublisher, clock, Duration.ofMinutes(1));
+        engine.rebuild();
+    }
+
+    @Test
+    void testDueThenOverdue() {
+        UUID id = UUID.randomUUID();
+        engine.onTaskChanged(changed(TaskChangeType.CREATED, id, TODAY.plusDays(1), false));
+
+        assertEquals(0, engine.check());
+
+        clock.setDate(TODAY.plusDays(1));
+        assertEquals(1, engine.check());
+        assertEquals(0, engine.check());
+
+        clock.setDate(TODAY.plusDays(2));
+        assertEquals(1, engine.check());
+        assertEquals(List.of(
+                new TaskReminderEvent(TaskReminderType.DUE, id, TODAY.plusDays(1)),
+                new TaskReminderEvent(TaskReminderType.OVERDUE, id, TODAY.plusDays(1))), published());
+        assertEquals(0, engine.scheduledCount());
+    }
+
+    @Test
+    void testSkippedDaysFireEveryReminderOnce() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        engine.onTaskChanged(changed(TaskChangeType.CREATED, first, TODAY.plusDays(1), false));
+        engine.onTaskChanged(changed(TaskChangeType.CREATED, second, TODAY.plusDays(3), false));
+        engine.onTaskChanged(changed(TaskChangeType.CREATED, later, TODAY.plusDays(30), false));
+
+        clock.setDate(TODAY.plusDays(3));
+
+        assertEquals(3, engine.check());
+        assertEquals(List.of(
+                new TaskReminderEvent(TaskReminderType.DUE, first, TODAY.plusDays(1)),
+                new TaskReminderEvent(TaskReminderType.OVERDUE, first, TODAY.plusDays(1)),
+                new TaskReminderEvent(TaskReminderType.DUE, second, TODAY.plusDays(3))), published());
+        assertEquals(TODAY.plusDays(3), engine.scheduledDate(second));
+        assertEquals(TODAY.plusDays(30), engine.scheduledDate(later));
+    }
+
+    @Test
+    void testChangesMoveOrDropReminders() {
+        UUID completed = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID moved = UUID.randomUUID();
+        for (UUID id : List.of(completed, deleted, moved)) {
+            engine.onTaskChanged(changed(TaskChangeType.CREATED, id, TODAY.plusDays(1), false));
+        }
+
+        engine.onTaskChanged(changed(TaskChangeType.TOGGLED, completed, TODAY.plusDays(1), true));
+        engine.onTaskChanged(TaskChangedEvent.deleted(deleted));
+        engine.onTaskChanged(changed(TaskChangeType.UPDATED, moved, TODAY.plusDays(2), false));
+        engine.onTaskChanged(TaskChangedEvent.commented(moved));
+
+        assertNull(engine.scheduledDate(completed));
+        assertNull(engine.scheduledDate(deleted));
+        assertEquals(TODAY.plusDays(2), engine.scheduledDate(moved));
+
+        clock.setDate(TODAY.plusDays(1));
+        assertEquals(0, engine.check());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDueDatesSetToTodayOrEarlierAreNotAnnounced() {
+        UUID today = UUID.randomUUID();
+        UUID past = UUID.randomUUID();
+        engine.onTaskChanged(changed(TaskChangeType.CREATED, today, TODAY, false));
+        engine.onTaskChanged(changed(TaskChangeType.CREATED, past, TODAY.minusDays(1), false));
+
+        assertNull(engine.scheduledDate(past));
+
+        clock.setDate(TODAY.plusDays(1));
+        assertEquals(1, engine.check());
+        assertEquals(List.of(new TaskReminderEvent(TaskReminderType.OVERDUE, today, TODAY)), published());
+    }
+
+    @Test
+    void testCheckOnlyTouchesDueTasks() {
+        for (int i = 0; i < 10_000; i++) {
+            engine.onTaskChanged(changed(TaskChangeType.CREATED, UUID.randomUUID(), TODAY.plusDays(2 + i % 300), false));
+        }
+        UUID due = UUID.randomUUID();
+        engine.onTaskChanged(changed(TaskChangeType.CREATED, due, TODAY.plusDays(1), false));
+
+        clock.setDate(TODAY.plusDays(1));
+
+        assertEquals(1, engine.check());
+        verify(eventPublisher, times(1)).publishEvent(any(TaskReminderEvent.class));
+        assertEquals(10_001, engine.scheduledCount());
+    }
+
+    private List<Object> published() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues();
+    }
+
+    private static TaskChangedEvent changed(TaskChangeType type, UUID id, LocalDate dueDate, boolean completed) {
+        return new TaskChangedEvent(type, id, "Task", null, dueDate, completed, null);
+    }
+}
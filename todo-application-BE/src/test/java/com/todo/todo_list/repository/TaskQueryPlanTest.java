@@ -0,0 +1,237 @@
+package com.todo.todo_list.repository;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.repository.specification.TaskCursor;
+import com.todo.todo_list.repository.specification.TaskFilterType;
+import com.todo.todo_list.repository.specification.TaskSort;
+import com.todo.todo_list.repository.specification.TaskSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for the task list, as it logs it, and checks every filter
+ * combination is answered from one of the task indexes instead of a full table scan, that every list order is
+ * read from an index in that order instead of being sorted, and that a page after a cursor starts the index
+ * scan at the cursor instead of filtering the rows before it.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Transactional
+class TaskQueryPlanTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+    private static final int PAGE = 21;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 50; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setCompleted(i % 3 == 0);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setDueDate(i % 5 == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(i));
+            task.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+            taskRepository.save(task);
+        }
+        taskRepository.flush();
+    }
+
+    @Test
+    void testCompletedFilterUsesIndex() {
+        assertIndexScan(filter(true, null, null));
+    }
+
+    @Test
+    void testDueDateFilterUsesIndex() {
+        assertIndexScan(filter(null, LocalDate.of(2025, 1, 20), null));
+    }
+
+    @Test
+    void testCompletedAndDueDateFilterUsesIndex() {
+        assertIndexScan(filter(false, LocalDate.of(2025, 1, 20), null));
+    }
+
+    @Test
+    void testTodayFilterUsesIndex() {
+        assertIndexScan(filter(null, null, TaskFilterType.TODAY));
+    }
+
+    @Test
+    void testOverdueFilterUsesIndex() {
+        assertIndexScan(filter(null, null, TaskFilterType.OVERDUE));
+    }
+
+    @Test
+    void testUpcomingFilterUsesIndex() {
+        assertIndexScan(filter(null, null, TaskFilterType.UPCOMING));
+    }
+
+    @Test
+    void testCompletedAndUpcomingFilterUsesIndex() {
+        assertIndexScan(filter(true, null, TaskFilterType.UPCOMING));
+    }
+
+    @Test
+    void testCreatedAtOrderIsReadFromIndex() {
+        List<String> plans = pagePlans(TaskSort.CREATED_AT, null);
+
+        assertEquals(1, plans.size());
+        assertIndexSorted(plans.get(0), "idx_task_created_at");
+    }
+
+    @Test
+    void testPriorityOrderIsReadFromIndex() {
+        List<String> plans = pagePlans(TaskSort.PRIORITY, null);
+
+        assertEquals(1, plans.size());
+        assertIndexSorted(plans.get(0), "idx_task_priority_created_at");
+    }
+
+    @Test
+    void testDueDateOrderIsReadFromIndex() {
+        // 40 dated tasks fill the first page, so the undated part is not read.
+        List<String> plans = pagePlans(TaskSort.DUE_DATE, null);
+
+        assertEquals(1, plans.size());
+        assertIndexSorted(plans.get(0), "idx_task_due_date_created_at");
+    }
+
+    @Test
+    void testUndatedPartOfDueDateOrderIsReadFromIndex() {
+        // The last dated tasks do not fill the page, so it is topped up from the undated ones.
+        List<String> plans = pagePlans(TaskSort.DUE_DATE, cursor(TaskSort.DUE_DATE, 30));
+
+        assertEquals(2, plans.size());
+        assertIndexSorted(plans.get(1), "idx_task_due_date_created_at");
+    }
+
+    @Test
+    void testCreatedAtCursorPageStartsAtTheCursor() {
+        List<String> plans = pagePlans(TaskSort.CREATED_AT, cursor(TaskSort.CREATED_AT, 20));
+
+        assertEquals(1, plans.size());
+        assertIndexSorted(plans.get(0), "idx_task_created_at");
+        assertIndexRange(plans.get(0), "idx_task_created_at", "created_at <=");
+    }
+
+    @Test
+    void testPriorityCursorPageStartsAtTheCursor() {
+        List<String> plans = pagePlans(TaskSort.PRIORITY, cursor(TaskSort.PRIORITY, 20));
+
+        assertEquals(1, plans.size());
+        assertIndexSorted(plans.get(0), "idx_task_priority_created_at");
+        assertIndexRange(plans.get(0), "idx_task_priority_created_at", "priority_level <=");
+    }
+
+    @Test
+    void testDueDateCursorPageStartsAtTheCursor() {
+        List<String> plans = pagePlans(TaskSort.DUE_DATE, cursor(TaskSort.DUE_DATE, 10));
+
+        assertEquals(1, plans.size());
+        assertIndexSorted(plans.get(0), "idx_task_due_date_created_at");
+        assertIndexRange(plans.get(0), "idx_task_due_date_created_at", "due_date >=");
+    }
+
+    @Test
+    void testUndatedCursorPageStartsAtTheCursor() {
+        List<String> plans = pagePlans(TaskSort.DUE_DATE, cursor(TaskSort.DUE_DATE, 42));
+
+        assertEquals(1, plans.size());
+        assertIndexSorted(plans.get(0), "idx_task_due_date_created_at");
+        assertIndexRange(plans.get(0), "idx_task_due_date_created_at", "created_at >=");
+    }
+
+    private Specification<Task> filter(Boolean completed, LocalDate dueDate, TaskFilterType filterType) {
+        return TaskSpecifications.filter(completed, dueDate, filterType, TODAY);
+    }
+
+    /**
+     * The cursor of the row at the given position of the full list in that order.
+     */
+    private TaskCursor cursor(TaskSort sort, int position) {
+        return TaskCursor.of(sort, taskRepository.findPage(TaskSpecifications.all(), sort, null, 50).get(position));
+    }
+
+    private List<String> pagePlans(TaskSort sort, TaskCursor after) {
+        return explain(capture(() -> taskRepository.findPage(TaskSpecifications.all(), sort, after, PAGE)));
+    }
+
+    private void assertIndexScan(Specification<Task> filter) {
+        List<String> plans = explain(capture(() -> taskRepository.findPage(filter, TaskSort.CREATED_AT, null, PAGE)));
+
+        assertEquals(1, plans.size());
+        assertFalse(plans.get(0).contains("tableScan"), "Expected an index lookup but got: " + plans.get(0));
+        assertTrue(plans.get(0).toLowerCase().contains("idx_task_"), "Expected a task index in plan: " + plans.get(0));
+    }
+
+    private static void assertIndexSorted(String plan, String index) {
+        assertTrue(plan.toLowerCase().contains(index), "Expected " + index + " in plan: " + plan);
+        assertTrue(plan.contains("index sorted"), "Expected the order to come from the index: " + plan);
+    }
+
+    /**
+     * H2 prints the index condition it scans with next to the index name; a keyset that the index can not
+     * start from only shows up in the WHERE clause.
+     */
+    private static void assertIndexRange(String plan, String index, String condition) {
+        String lower = plan.toLowerCase();
+        int start = lower.indexOf("/* public." + index + ":");
+        String scan = start < 0 ? "" : lower.substring(start, lower.indexOf("*/", start));
+        assertTrue(scan.contains(condition), "Expected the scan of " + index + " to start at the cursor: " + plan);
+    }
+
+    /**
+     * Captures the SQL Hibernate logs while the query runs, so the statements checked are the generated ones.
+     */
+    private List<String> capture(Runnable query) {
+        Logger sqlLogger = (Logger) LoggerFactory.getLogger("org.hibernate.SQL");
+        Level level = sqlLogger.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        sqlLogger.addAppender(appender);
+        sqlLogger.setLevel(Level.DEBUG);
+        try {
+            query.run();
+        } finally {
+            sqlLogger.setLevel(level);
+            sqlLogger.detachAppender(appender);
+        }
+        return appender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .toList();
+    }
+
+    private List<String> explain(List<String> statements) {
+        return statements.stream()
+                .map(sql -> jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                        (rs, row) -> rs.getString(1)).get(0))
+                .toList();
+    }
+}
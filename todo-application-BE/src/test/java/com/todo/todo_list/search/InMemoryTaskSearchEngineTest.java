@@ -0,0 +1,136 @@
+package com.todo.todo_list.search;
+
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.repository.specification.TaskFilterType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author by piyumi_navodani
+ */
+class InMemoryTaskSearchEngineTest {
+    private InMemoryTaskSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryTaskSearchEngine(mock(JdbcTemplate.class));
+    }
+
+    @Test
+    void testTitleMatchRanksAboveDescriptionMatch() {
+        UUID inDescription = index("Weekly sync", "Prepare the quarterly report");
+        UUID inTitle = index("Quarterly report", "Send to the team");
+
+        assertEquals(List.of(inTitle, inDescription), engine.search("report", 10));
+    }
+
+    @Test
+    void testAllTermsMustMatch() {
+        UUID both = index("Buy milk", "From the corner shop");
+        index("Buy bread", null);
+
+        assertEquals(List.of(both), engine.search("buy shop", 10));
+    }
+
+    @Test
+    void testPrefixMatchAndCaseInsensitivity() {
+        UUID id = index("Deploy Release", "Production rollout");
+
+        assertEquals(List.of(id), engine.search("PROD depl", 10));
+        assertTrue(engine.search("rollouts", 10).isEmpty());
+    }
+
+    @Test
+    void testUpdateAndDeleteKeepIndexInSync() {
+        UUID id = index("Draft proposal", null);
+
+        engine.onTaskChanged(event(TaskChangeType.UPDATED, id, "Final budget", null));
+        assertTrue(engine.search("proposal", 10).isEmpty());
+        assertEquals(List.of(id), engine.search("budget", 10));
+
+        engine.onTaskChanged(TaskChangedEvent.deleted(id));
+        assertTrue(engine.search("budget", 10).isEmpty());
+    }
+
+    @Test
+    void testLimit() {
+        for (int i = 0; i < 20; i++) {
+            index("Task " + i, "chores");
+        }
+
+        assertEquals(5, engine.search("chores", 5).size());
+        assertTrue(engine.search("   ", 5).isEmpty());
+    }
+
+    @Test
+    void testFiltersApplyBeforeLimit() {
+        LocalDate today = LocalDate.of(2025, 1, 15);
+        for (int i = 0; i < 10; i++) {
+            index("Report " + i, "report report", today.plusDays(1), false);
+        }
+        UUID overdue = index("Old report", null, today.minusDays(1), false);
+        index("Done report", null, today.minusDays(1), true);
+
+        TaskSearchFilter filter = new TaskSearchFilter(null, null, TaskFilterType.OVERDUE, today);
+        assertEquals(List.of(overdue), engine.search("report", filter, 3));
+    }
+
+    @Test
+    void testToggleUpdatesFilterFields() {
+        UUID id = index("Pay rent", null, null, false);
+        TaskSearchFilter open = new TaskSearchFilter(false, null, null, null);
+
+        engine.onTaskChanged(new TaskChangedEvent(TaskChangeType.TOGGLED, id, "Pay rent", null, null, true, null));
+
+        assertTrue(engine.search("rent", open, 10).isEmpty());
+        assertEquals(List.of(id), engine.search("rent", 10));
+    }
+
+    @Test
+    void testIndexIsLoadedBeforeTheServerStarts() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        UUID id = UUID.randomUUID();
+        ResultSet row = mock(ResultSet.class);
+        when(row.getObject("id", UUID.class)).thenReturn(id);
+        when(row.getString("title")).thenReturn("Renew passport");
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        InMemoryTaskSearchEngine loaded = new InMemoryTaskSearchEngine(jdbcTemplate);
+
+        // What the container calls once every bean exists, before the web server starts.
+        loaded.afterSingletonsInstantiated();
+
+        assertEquals(List.of(id), loaded.search("passport", 10));
+    }
+
+    private UUID index(String title, String description) {
+        return index(title, description, null, false);
+    }
+
+    private UUID index(String title, String description, LocalDate dueDate, boolean completed) {
+        UUID id = UUID.randomUUID();
+        engine.onTaskChanged(new TaskChangedEvent(TaskChangeType.CREATED, id, title, description, dueDate, completed, null));
+        return id;
+    }
+
+    private TaskChangedEvent event(TaskChangeType type, UUID id, String title, String description) {
+        return new TaskChangedEvent(type, id, title, description, null, false, null);
+    }
+}
@@ -0,0 +1,126 @@
+package com.todo.todo_list.service;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.CommentRepository;
+import com.todo.todo_list.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many threads writing the same task at once. Not transactional: every call commits on its own, as it does
+ * for concurrent requests.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskConcurrencyIntegrationTest {
+    private static final int THREADS = 16;
+    private static final int TOGGLES_PER_THREAD = 25;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testConcurrentTogglesAreAtomic() throws Exception {
+        Task task = new Task();
+        task.setTitle("Contended");
+        Task created = taskService.createTask(task);
+        long initialVersion = created.getVersion();
+
+        Queue<TaskDto> results = new ConcurrentLinkedQueue<>();
+        runConcurrently(() -> {
+            for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                results.add(taskService.toggleCompletion(created.getId(), ThreadLocalRandom.current().nextBoolean()));
+            }
+        });
+
+        assertEquals(THREADS * TOGGLES_PER_THREAD, results.size());
+        // The task starts open and every effective toggle bumps the version once, so a lost or doubled
+        // write would break the link between the flag and the version parity.
+        for (TaskDto result : results) {
+            assertEquals((result.getVersion() - initialVersion) % 2 == 1, result.isCompleted(),
+                    "Inconsistent row returned: " + result);
+        }
+        TaskDto last = taskRepository.findDtoById(created.getId()).orElseThrow();
+        assertEquals(results.stream().mapToLong(TaskDto::getVersion).max().orElseThrow(), last.getVersion());
+        assertEquals((last.getVersion() - initialVersion) % 2 == 1, last.isCompleted());
+    }
+
+    @Test
+    void testConcurrentUpdatesWithSameVersionHaveOneWinner() throws Exception {
+        Task task = new Task();
+        task.setTitle("Original");
+        Task created = taskService.createTask(task);
+        Long readVersion = created.getVersion();
+
+        AtomicInteger next = new AtomicInteger();
+        Queue<String> winners = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(() -> {
+            Task update = new Task();
+            update.setTitle("Edit " + next.incrementAndGet());
+            update.setVersion(readVersion);
+            try {
+                winners.add(taskService.updateTask(created.getId(), update).getTitle());
+            } catch (RuntimeException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        assertEquals(1, winners.size());
+        assertEquals(THREADS - 1, rejected.get());
+        assertEquals(winners.peek(), taskService.getTaskById(created.getId()).getTitle());
+    }
+
+    private void runConcurrently(Runnable work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    work.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.todo.todo_list.service;
+
+import com.todo.todo_list.entity.Comment;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.metrics.SqlStatementCounter;
+import com.todo.todo_list.repository.CommentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets per TaskController endpoint. Each request runs through MockMvc in its own transactions,
+ * as in production, and fails when it issues more statements than its budget; a lazy collection touched during
+ * serialization or a save that reloads its parent shows up here as an extra statement.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM task");
+    }
+
+    @Test
+    void testListIsOneQuery() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            saveTaskWithComments("Task " + i, 2);
+        }
+
+        assertEquals(1, statements(get("/api/tasks").param("size", "10")));
+        assertEquals(1, statements(get("/api/tasks").param("filterType", "overdue")));
+        assertEquals(1, statements(get("/api/tasks").param("sort", "priority")));
+        // The dated part of the due date order is topped up from the undated part when it runs out.
+        assertWithinBudget(get("/api/tasks").param("sort", "dueDate").param("size", "10"), 2);
+        assertEquals(1, statements(get("/api/tasks").param("search", "task")));
+        assertEquals(1, statements(get("/api/tasks/export")));
+        assertEquals(1, statements(get("/api/tasks/export").param("format", "csv")));
+    }
+
+    @Test
+    void testDetailBudgets() throws Exception {
+        Task task = saveTaskWithComments("Detail", 3);
+
+        assertWithinBudget(get("/api/tasks/{id}", task.getId()).param("includeComments", "true"), 2);
+        assertWithinBudget(get("/api/tasks/{id}/comments", task.getId()), 2);
+    }
+
+    @Test
+    void testDetailIsOneQueryOnCacheMiss() throws Exception {
+        Task task = saveTaskWithComments("Detail", 3);
+
+        assertEquals(1, statements(get("/api/tasks/{id}", task.getId())));
+        assertEquals(0, statements(get("/api/tasks/{id}", task.getId())));
+    }
+
+    @Test
+    void testStatisticsAreServedWithoutQueries() throws Exception {
+        saveTaskWithComments("Counted", 1);
+
+        assertEquals(0, statements(get("/api/tasks/stats")));
+    }
+
+    @Test
+    void testWriteBudgets() throws Exception {
+        Task task = saveTaskWithComments("Write", 3);
+
+        assertWithinBudget(json(post("/api/tasks"), "{\"title\":\"Created\"}"), 1);
+        assertWithinBudget(json(put("/api/tasks/{id}", task.getId()), "{\"title\":\"Updated\",\"completed\":false}"), 2);
+        assertWithinBudget(json(patch("/api/tasks/{id}", task.getId()), "{\"completed\":true}"), 2);
+        assertWithinBudget(json(post("/api/tasks/{id}/comments", task.getId()), "{\"text\":\"One more\"}"), 2);
+        // One UPDATE whatever the number of comments: they are removed later with the tombstoned task.
+        assertWithinBudget(delete("/api/tasks/{id}", task.getId()), 1);
+    }
+
+    @Test
+    void testBatchBudgets() throws Exception {
+        Task first = saveTaskWithComments("First", 2);
+        Task second = saveTaskWithComments("Second", 2);
+
+        assertWithinBudget(json(post("/api/tasks/batch"),
+                "[{\"title\":\"A\"},{\"title\":\"B\"},{\"title\":\"C\"}]"), 1);
+        assertWithinBudget(json(put("/api/tasks/batch"),
+                "[{\"id\":\"" + first.getId() + "\",\"title\":\"A\"},{\"id\":\"" + second.getId() + "\",\"title\":\"B\"}]"), 2);
+        assertWithinBudget(json(delete("/api/tasks/batch"),
+                "[\"" + first.getId() + "\",\"" + second.getId() + "\",\"" + UUID.randomUUID() + "\"]"), 3);
+    }
+
+    private void assertWithinBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        int statements = statements(request);
+        MockHttpServletRequest built = request.buildRequest(new MockServletContext());
+        assertTrue(statements <= budget, () -> built.getMethod() + " " + built.getRequestURI() + " issued "
+                + statements + " SQL statements, budget is " + budget);
+    }
+
+    private int statements(MockHttpServletRequestBuilder request) throws Exception {
+        int statements;
+        sqlStatementCounter.start();
+        try {
+            mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        } finally {
+            statements = sqlStatementCounter.stop();
+        }
+        return statements;
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    /**
+     * Goes through the service so the task also reaches the search index.
+     */
+    private Task saveTaskWithComments(String title, int comments) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDueDate(LocalDate.now().minusDays(1));
+        task = taskService.createTask(task);
+        for (int i = 0; i < comments; i++) {
+            commentRepository.save(Comment.builder().text("Comment " + i).timeStamp(LocalDateTime.now()).task(task).build());
+        }
+        return task;
+    }
+}
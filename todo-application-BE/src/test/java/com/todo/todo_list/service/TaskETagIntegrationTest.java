@@ -0,0 +1,130 @@
+package com.todo.todo_list.service;
+
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.metrics.SqlStatementCounter;
+import com.todo.todo_list.repository.CommentRepository;
+import com.todo.todo_list.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Conditional GETs on the task endpoints. Not transactional: the cache is evicted after commit, as it is for
+ * real requests.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskETagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testDetailAnswersNotModifiedUntilTheTaskChanges() throws Exception {
+        Task task = createTask("Detail");
+        String etag = perform(get("/api/tasks/{id}", task.getId())).getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        sqlStatementCounter.start();
+        MockHttpServletResponse notModified = perform(get("/api/tasks/{id}", task.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        int statements = sqlStatementCounter.stop();
+        assertEquals(304, notModified.getStatus());
+        assertEquals("", notModified.getContentAsString());
+        assertEquals(0, statements);
+
+        perform(post("/api/tasks/{id}/comments", task.getId())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"text\":\"New comment\"}"));
+        MockHttpServletResponse commented = perform(get("/api/tasks/{id}", task.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(200, commented.getStatus());
+        String commentedEtag = commented.getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, commentedEtag);
+
+        perform(patch("/api/tasks/{id}", task.getId())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"completed\":true}"));
+        assertEquals(200, perform(get("/api/tasks/{id}", task.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, commentedEtag)).getStatus());
+    }
+
+    @Test
+    void testDetailWithCommentsHasItsOwnETag() throws Exception {
+        Task task = createTask("Variants");
+        String plain = perform(get("/api/tasks/{id}", task.getId())).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse withComments = perform(get("/api/tasks/{id}", task.getId())
+                .param("includeComments", "true")
+                .header(HttpHeaders.IF_NONE_MATCH, plain));
+
+        assertEquals(200, withComments.getStatus());
+        assertEquals(304, perform(get("/api/tasks/{id}", task.getId())
+                .param("includeComments", "true")
+                .header(HttpHeaders.IF_NONE_MATCH, withComments.getHeader(HttpHeaders.ETAG))).getStatus());
+    }
+
+    @Test
+    void testListAnswersNotModifiedUntilAPageRowChanges() throws Exception {
+        Task first = createTask("First");
+        createTask("Second");
+        String etag = perform(get("/api/tasks")).getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        MockHttpServletResponse notModified = perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(304, notModified.getStatus());
+        assertEquals("", notModified.getContentAsString());
+
+        perform(patch("/api/tasks/{id}", first.getId())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"completed\":true}"));
+        MockHttpServletResponse changed = perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, etag));
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+
+        // Another filter is another page, with another ETag.
+        assertEquals(200, perform(get("/api/tasks").param("size", "1")
+                .header(HttpHeaders.IF_NONE_MATCH, changed.getHeader(HttpHeaders.ETAG))).getStatus());
+    }
+
+    private Task createTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.createTask(task);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+}
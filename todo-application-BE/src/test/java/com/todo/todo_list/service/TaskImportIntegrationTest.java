@@ -0,0 +1,93 @@
+package com.todo.todo_list.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.todo_list.dto.ImportResultDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.export.TaskExportFormat;
+import com.todo.todo_list.repository.CommentRepository;
+import com.todo.todo_list.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Import against the real database. Not transactional: every chunk commits on its own, as it does for a request.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testImportEndpointSavesValidLinesAcrossChunks() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1200; i++) {
+            body.append(i == 700 ? "not json" : "{\"title\":\"Imported " + i + "\"}").append('\n');
+        }
+
+        String response = mockMvc.perform(post("/api/tasks/import")
+                        .contentType("application/x-ndjson")
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        ImportResultDto result = objectMapper.readValue(response, ImportResultDto.class);
+        assertEquals(1200, result.getLines());
+        assertEquals(1199, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(701, result.getErrors().get(0).getLine());
+        assertEquals(1199, taskRepository.count());
+    }
+
+    @Test
+    void testExportCanBeImportedBack() {
+        for (int i = 0; i < 10; i++) {
+            Task task = new Task();
+            task.setTitle("Round trip " + i);
+            task.setDescription("with \"quotes\", commas\nand lines");
+            taskService.createTask(task);
+        }
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        taskService.exportTasks(null, null, null, TaskExportFormat.NDJSON, exported);
+
+        ImportResultDto result = taskService.importTasks(new ByteArrayInputStream(exported.toByteArray()));
+
+        assertEquals(10, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertEquals(20, taskRepository.count());
+    }
+}
@@ -0,0 +1,66 @@
+package com.todo.todo_list.service;
+
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not transactional: the search index follows committed changes only.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskSearchIntegrationTest {
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.findAll().forEach(task -> taskService.deletTask(task.getId()));
+    }
+
+    @Test
+    void testSearchIsRankedAndFiltered() {
+        Task titleHit = create("Invoice customers", "Monthly run", false);
+        Task descriptionHit = create("Finance", "Check the invoice numbers", false);
+        create("Invoice archive", "Old invoices", true);
+        create("Groceries", "Milk and eggs", false);
+
+        List<TaskDto> results = taskService.getTasks("invoice", false, null, null, null, null, null).getItems();
+
+        assertEquals(List.of(titleHit.getId(), descriptionHit.getId()), results.stream().map(TaskDto::getId).toList());
+    }
+
+    @Test
+    void testSearchFollowsUpdates() {
+        Task task = create("Plan offsite", null, false);
+        Task update = new Task();
+        update.setTitle("Plan team dinner");
+
+        taskService.updateTask(task.getId(), update);
+
+        assertTrue(taskService.getTasks("offsite", null, null, null, null, null, null).getItems().isEmpty());
+        assertEquals(1, taskService.getTasks("dinner", null, null, null, null, null, null).getItems().size());
+    }
+
+    private Task create(String title, String description, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setCompleted(completed);
+        return taskService.createTask(task);
+    }
+}
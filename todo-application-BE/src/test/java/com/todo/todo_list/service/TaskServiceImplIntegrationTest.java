@@ -1,15 +1,31 @@
 package com.todo.todo_list.service;
 
+import com.todo.todo_list.dto.BatchItemResultDto;
+import com.todo.todo_list.dto.BatchResultDto;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.CommentPageDto;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
 import com.todo.todo_list.entity.Comment;
 import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.purge.TaskPurger;
 import com.todo.todo_list.repository.CommentRepository;
 import com.todo.todo_list.repository.TaskRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -29,6 +45,9 @@ class TaskServiceImplIntegrationTest {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskPurger taskPurger;
+
     @Test
     void testCreateTaskIntegration() {
         Task task = new Task();
@@ -37,6 +56,7 @@ class TaskServiceImplIntegrationTest {
         Task saved = taskService.createTask(task);
 
         assertNotNull(saved.getId());
+        assertEquals(7, saved.getId().version());
         assertEquals("Integration Task", saved.getTitle());
     }
 
@@ -61,9 +81,33 @@ class TaskServiceImplIntegrationTest {
         task.setCompleted(false);
         Task saved = taskRepository.save(task);
 
-        Task result = taskService.toggleCompletion(saved.getId(), true);
+        TaskDto result = taskService.toggleCompletion(saved.getId(), true);
+        TaskDto unchanged = taskService.toggleCompletion(saved.getId(), true);
 
         assertTrue(result.isCompleted());
+        assertNotNull(result.getUpdatedAt());
+        assertEquals(saved.getVersion() + 1, result.getVersion());
+        assertEquals(result.getVersion(), unchanged.getVersion());
+        assertTrue(taskRepository.findDtoById(saved.getId()).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void testUpdateWithStaleVersionIsRejectedIntegration() {
+        Task saved = taskRepository.save(newTask("Original", false, null));
+        taskRepository.flush();
+        Long readVersion = saved.getVersion();
+
+        Task first = newTask("First edit", false, null);
+        first.setVersion(readVersion);
+        taskService.updateTask(saved.getId(), first);
+        taskRepository.flush();
+
+        // A second client still holding the version it read before the first edit.
+        Task stale = newTask("Second edit", false, null);
+        stale.setVersion(readVersion);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> taskService.updateTask(saved.getId(), stale));
+        assertEquals("First edit", taskService.getTaskById(saved.getId()).getTitle());
     }
 
     @Test
@@ -85,8 +129,202 @@ class TaskServiceImplIntegrationTest {
         Comment comment = new Comment();
         comment.setText("Test Comment");
 
-        Task result = taskService.addComment(saved.getId(), comment);
+        Comment result = taskService.addComment(saved.getId(), comment);
+
+        assertNotNull(result.getId());
+        assertEquals(saved.getId(), result.getTask().getId());
+        assertEquals(1, taskService.getComments(saved.getId(), null, null).getItems().size());
+    }
+
+    @Test
+    void testGetCommentsPagesIntegration() {
+        Task saved = taskRepository.save(new Task());
+        for (int i = 0; i < 5; i++) {
+            Comment comment = new Comment();
+            comment.setText("Comment " + i);
+            taskService.addComment(saved.getId(), comment);
+        }
+
+        CommentPageDto first = taskService.getComments(saved.getId(), 0, 3);
+        CommentPageDto second = taskService.getComments(saved.getId(), 1, 3);
+
+        assertEquals(List.of("Comment 0", "Comment 1", "Comment 2"), first.getItems().stream().map(CommentDto::getText).toList());
+        assertTrue(first.isHasNext());
+        assertEquals(List.of("Comment 3", "Comment 4"), second.getItems().stream().map(CommentDto::getText).toList());
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void testGetTaskDetailsProjectionIntegration() {
+        Task saved = taskRepository.save(newTask("With comments", false, null));
+        for (int i = 0; i < 2; i++) {
+            Comment comment = new Comment();
+            comment.setText("Comment " + i);
+            taskService.addComment(saved.getId(), comment);
+        }
+
+        TaskDto summary = taskService.getTaskDetails(saved.getId(), false);
+        TaskDto details = taskService.getTaskDetails(saved.getId(), true);
+
+        assertEquals("With comments", summary.getTitle());
+        assertEquals(2L, summary.getCommentCount());
+        assertNull(summary.getComments());
+        assertEquals(List.of("Comment 0", "Comment 1"), details.getComments().stream().map(CommentDto::getText).toList());
+        TaskDto listed = taskService.getTasks(null, false, null, null, null, null, null).getItems().stream()
+                .filter(task -> task.getId().equals(saved.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(2L, listed.getCommentCount());
+    }
+
+    @Test
+    void testGetTasksFiltersIntegration() {
+        LocalDate today = LocalDate.now();
+        Task overdue = newTask("Overdue", false, today.minusDays(2));
+        Task doneYesterday = newTask("Done yesterday", true, today.minusDays(1));
+        Task dueToday = newTask("Due today", false, today);
+        Task upcoming = newTask("Upcoming", false, today.plusDays(3));
+        taskRepository.saveAll(List.of(overdue, doneYesterday, dueToday, upcoming));
+
+        assertEquals(List.of("Overdue"), titles(taskService.getTasks(null, null, null, "overdue", null, null, null)));
+        assertEquals(List.of("Due today"), titles(taskService.getTasks(null, null, null, "today", null, null, null)));
+        assertEquals(List.of("Upcoming"), titles(taskService.getTasks(null, null, null, "upcoming", null, null, null)));
+        assertEquals(List.of("Done yesterday"), titles(taskService.getTasks(null, true, null, null, null, null, null)));
+        assertEquals(List.of("Due today"), titles(taskService.getTasks(null, false, today, null, null, null, null)));
+        assertTrue(taskService.getTasks(null, true, null, "today", null, null, null).getItems().isEmpty());
+    }
+
+    @Test
+    void testGetTasksKeysetPagingIntegration() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Task task = newTask("Task " + i, false, null);
+            // Two tasks share every timestamp so the id tie-breaker is exercised.
+            task.setCreatedAt(createdAt.plusMinutes(i / 2));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        List<TaskDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TaskPageDto page = taskService.getTasks(null, false, null, null, null, cursor, 3);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(7, seen.size());
+        assertEquals(7, seen.stream().map(TaskDto::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).getCreatedAt().isAfter(seen.get(i - 1).getCreatedAt()));
+        }
+    }
+
+    @Test
+    void testGetTasksSortedByPriorityPagingIntegration() {
+        List<Task> tasks = sortableTasks();
+
+        List<UUID> expected = tasks.stream()
+                .sorted(Comparator.comparing((Task task) -> task.getPriority().getLevel()).reversed()
+                        .thenComparing(Task::getCreatedAt, Comparator.reverseOrder()))
+                .map(Task::getId)
+                .toList();
+        assertEquals(expected, pageThrough("priority"));
+    }
+
+    @Test
+    void testGetTasksSortedByDueDatePagingIntegration() {
+        List<Task> tasks = sortableTasks();
+
+        // Dated tasks first, soonest first; the undated ones follow, oldest first.
+        List<UUID> expected = tasks.stream()
+                .sorted(Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Task::getCreatedAt))
+                .map(Task::getId)
+                .toList();
+        assertEquals(expected, pageThrough("dueDate"));
+    }
+
+    @Test
+    void testGetTasksRejectsCursorOfAnotherSortIntegration() {
+        sortableTasks();
+        String cursor = taskService.getTasks(null, null, null, null, "priority", null, 3).getNextCursor();
+
+        assertNotNull(cursor);
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasks(null, null, null, null, "dueDate", cursor, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasks(null, null, null, null, "title", null, 3));
+    }
+
+    @Test
+    void testBatchCreateUpdateDeleteIntegration() {
+        BatchResultDto created = taskService.createTasks(List.of(
+                newTask("Batch 1", false, null), newTask("Batch 2", false, null), newTask("Batch 3", false, null)));
+        assertEquals(3, created.getSucceeded());
+        List<UUID> ids = created.getResults().stream().map(BatchItemResultDto::getId).toList();
+
+        Task update = newTask("Batch 1 done", true, null);
+        update.setId(ids.get(0));
+        Task unknown = newTask("Unknown", false, null);
+        unknown.setId(UUID.randomUUID());
+        BatchResultDto updated = taskService.updateTasks(List.of(update, unknown));
+        assertEquals(1, updated.getSucceeded());
+        assertEquals(1, updated.getFailed());
+        assertTrue(taskRepository.findById(ids.get(0)).orElseThrow().isCompleted());
+
+        Comment comment = new Comment();
+        comment.setText("Will be removed");
+        taskService.addComment(ids.get(1), comment);
+
+        BatchResultDto deleted = taskService.deleteTasks(ids);
+        assertEquals(3, deleted.getSucceeded());
+        assertTrue(taskRepository.findAllById(ids).isEmpty());
+        // Tombstoned: the comments stay until the purge removes them with their tasks.
+        assertEquals(1, commentRepository.count());
+        assertTrue(taskPurger.purge() >= 3);
+        assertEquals(0, commentRepository.count());
+    }
+
+    private Task newTask(String title, boolean completed, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setCompleted(completed);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(LocalDateTime.now());
+        return task;
+    }
+
+    private List<Task> sortableTasks() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        LocalDate dueDate = LocalDate.of(2025, 2, 1);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            // Every fourth task has no due date, and the dated ones share dates in pairs, so pages cross both
+            // the tie-breakers and the boundary between the dated and undated part of the due date order.
+            Task task = newTask("Task " + i, false, i % 4 == 3 ? null : dueDate.plusDays(i / 2));
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setCreatedAt(createdAt.plusMinutes(i));
+            tasks.add(task);
+        }
+        return taskRepository.saveAll(tasks);
+    }
+
+    private List<UUID> pageThrough(String sort) {
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageDto page = taskService.getTasks(null, null, null, null, sort, cursor, 3);
+            page.getItems().forEach(task -> seen.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return seen;
+    }
 
-        assertEquals(1, result.getComments().size());
+    private List<String> titles(TaskPageDto page) {
+        return page.getItems().stream().map(TaskDto::getTitle).toList();
     }
 }
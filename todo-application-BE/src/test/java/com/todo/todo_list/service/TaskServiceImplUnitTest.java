@@ -1,23 +1,64 @@
 package com.todo.todo_list.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todo.todo_list.cache.TaskCache;
+import com.todo.todo_list.dto.BatchResultDto;
+import com.todo.todo_list.dto.CommentDto;
+import com.todo.todo_list.dto.CommentPageDto;
+import com.todo.todo_list.dto.ImportErrorDto;
+import com.todo.todo_list.dto.ImportResultDto;
+import com.todo.todo_list.dto.TaskDto;
+import com.todo.todo_list.dto.TaskPageDto;
+import com.todo.todo_list.dto.TaskStatsDto;
 import com.todo.todo_list.entity.Comment;
 import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.event.TaskState;
+import com.todo.todo_list.ingest.CommentBufferFullException;
+import com.todo.todo_list.ingest.CommentWriteBehindBuffer;
+import com.todo.todo_list.ingest.PendingComment;
+import com.todo.todo_list.purge.TaskPurger;
 import com.todo.todo_list.repository.CommentRepository;
 import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.repository.specification.TaskCursor;
+import com.todo.todo_list.repository.specification.TaskFilterType;
+import com.todo.todo_list.repository.specification.TaskSort;
+import com.todo.todo_list.search.TaskSearchEngine;
+import com.todo.todo_list.search.TaskSearchFilter;
 import com.todo.todo_list.service.impl.TaskServiceImpl;
+import com.todo.todo_list.stats.TaskStatistics;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.EmptyResultDataAccessException;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +73,30 @@ class TaskServiceImplUnitTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TaskSearchEngine taskSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CommentWriteBehindBuffer commentBuffer;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private TaskPurger taskPurger;
+
+    @Spy
+    private TaskCache taskCache = new TaskCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -51,6 +116,7 @@ class TaskServiceImplUnitTest {
         assertNotNull(result.getId());
         assertEquals("New Task", result.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -88,6 +154,24 @@ class TaskServiceImplUnitTest {
         verify(taskRepository).save(existing);
     }
 
+    @Test
+    void testUpdateTask_staleVersionRejected() {
+        UUID id = UUID.randomUUID();
+        Task existing = new Task();
+        existing.setId(id);
+        existing.setVersion(4L);
+
+        Task updated = new Task();
+        updated.setTitle("Updated");
+        updated.setVersion(3L);
+
+        when(taskRepository.findById(id)).thenReturn(Optional.of(existing));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> taskService.updateTask(id, updated));
+        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void testUpdateTask_nullArguments() {
         UUID id = UUID.randomUUID();
@@ -99,16 +183,38 @@ class TaskServiceImplUnitTest {
     @Test
     void testToggleCompletion_success() {
         UUID id = UUID.randomUUID();
-        Task task = new Task();
-        task.setId(id);
-        task.setCompleted(false);
+        TaskDto toggled = TaskDto.builder().id(id).completed(true).version(1L).build();
 
-        when(taskRepository.findById(id)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.updateCompleted(eq(id), eq(true), any(LocalDateTime.class))).thenReturn(Optional.of(toggled));
 
-        Task result = taskService.toggleCompletion(id, true);
+        TaskDto result = taskService.toggleCompletion(id, true);
 
         assertTrue(result.isCompleted());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.toggled(toggled));
+    }
+
+    @Test
+    void testToggleCompletion_alreadyInRequestedState() {
+        UUID id = UUID.randomUUID();
+        TaskDto current = TaskDto.builder().id(id).completed(true).version(3L).build();
+
+        when(taskRepository.updateCompleted(eq(id), eq(true), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(taskRepository.findDtoById(id)).thenReturn(Optional.of(current));
+
+        assertSame(current, taskService.toggleCompletion(id, true));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testToggleCompletion_notFound() {
+        UUID id = UUID.randomUUID();
+
+        when(taskRepository.updateCompleted(eq(id), eq(false), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(taskRepository.findDtoById(id)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.toggleCompletion(id, false));
     }
 
     @Test
@@ -116,15 +222,42 @@ class TaskServiceImplUnitTest {
         assertThrows(IllegalArgumentException.class, () -> taskService.toggleCompletion(null, true));
     }
 
+    @Test
+    void testGetStatistics_readsCounters() {
+        TaskStatsDto stats = TaskStatsDto.builder().total(3).completed(1).open(2).build();
+        when(taskStatistics.snapshot()).thenReturn(stats);
+
+        assertSame(stats, taskService.getStatistics());
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void testDeleteTask_success() {
         UUID id = UUID.randomUUID();
+        TaskDto deleted = TaskDto.builder().id(id).completed(true).priority(TaskPriority.HIGH).build();
 
-        doNothing().when(taskRepository).deleteById(id);
+        when(taskRepository.deleteReturning(id)).thenReturn(Optional.of(deleted));
 
         taskService.deletTask(id);
 
-        verify(taskRepository).deleteById(id);
+        verify(commentRepository).deleteByTaskIdIn(List.of(id));
+        verify(taskRepository).deleteReturning(id);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(id, new TaskState(true, TaskPriority.HIGH, null)));
+    }
+
+    @Test
+    void testDeleteTask_softDeleteOnlyTombstones() {
+        UUID id = UUID.randomUUID();
+        TaskDto tombstoned = TaskDto.builder().id(id).priority(TaskPriority.LOW).build();
+
+        when(taskPurger.isSoftDeleteEnabled()).thenReturn(true);
+        when(taskRepository.tombstoneReturning(eq(id), any(LocalDateTime.class))).thenReturn(Optional.of(tombstoned));
+
+        taskService.deletTask(id);
+
+        verifyNoInteractions(commentRepository);
+        verify(taskRepository, never()).deleteReturning(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(id, new TaskState(false, TaskPriority.LOW, null)));
     }
 
     @Test
@@ -133,23 +266,24 @@ class TaskServiceImplUnitTest {
     }
 
     @Test
-    void testDeletTask_emptyResultDataAccessException() {
+    void testDeletTask_notFound() {
         UUID id = UUID.randomUUID();
 
-        doThrow(new EmptyResultDataAccessException(1)).when(taskRepository).deleteById(id);
+        when(taskRepository.deleteReturning(id)).thenReturn(Optional.empty());
 
         EntityNotFoundException ex = assertThrows(EntityNotFoundException.class, () -> {
             taskService.deletTask(id);
         });
 
         assertTrue(ex.getMessage().contains(id.toString()));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     void testDeletTask_runtimeException() {
         UUID id = UUID.randomUUID();
 
-        doThrow(new RuntimeException("DB error")).when(taskRepository).deleteById(id);
+        when(taskRepository.deleteReturning(id)).thenThrow(new RuntimeException("DB error"));
 
         RuntimeException ex = assertThrows(RuntimeException.class, () -> {
             taskService.deletTask(id);
@@ -161,21 +295,87 @@ class TaskServiceImplUnitTest {
     @Test
     void testAddComment_success() {
         UUID taskId = UUID.randomUUID();
-        Task task = new Task();
-        task.setId(taskId);
-        task.setComments(new ArrayList<>());
+        Task reference = new Task();
+        reference.setId(taskId);
 
         Comment comment = new Comment();
         comment.setText("Hello");
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
-        when(commentRepository.save(any(Comment.class))).thenReturn(comment);
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(taskRepository.getReferenceById(taskId)).thenReturn(reference);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        Task result = taskService.addComment(taskId, comment);
+        Comment result = taskService.addComment(taskId, comment);
 
-        assertEquals(1, result.getComments().size());
+        assertEquals("Hello", result.getText());
+        assertNotNull(result.getTimeStamp());
+        assertSame(reference, result.getTask());
         verify(commentRepository).save(any(Comment.class));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testAddComment_taskNotFound() {
+        UUID taskId = UUID.randomUUID();
+        Comment comment = new Comment();
+        comment.setText("Hello");
+        when(taskRepository.existsById(taskId)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.addComment(taskId, comment));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void testGetComments_readsOneSlice() {
+        UUID taskId = UUID.randomUUID();
+        CommentDto comment = CommentDto.builder().id(UUID.randomUUID()).text("First").build();
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(commentRepository.findDtosByTaskId(eq(taskId), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(comment), PageRequest.of(1, 1), true));
+
+        CommentPageDto result = taskService.getComments(taskId, 1, 1);
+
+        assertEquals(List.of(comment), result.getItems());
+        assertTrue(result.isHasNext());
+        verify(commentRepository).findDtosByTaskId(taskId, PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "timeStamp", "id")));
+    }
+
+    @Test
+    void testQueueComment_success() {
+        UUID taskId = UUID.randomUUID();
+        Comment comment = new Comment();
+        comment.setText("Later");
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+
+        CommentDto result = taskService.queueComment(taskId, comment);
+
+        assertNotNull(result.getId());
+        assertNotNull(result.getTimeStamp());
+        assertEquals("Later", result.getText());
+        verify(commentBuffer).offer(new PendingComment(result.getId(), taskId, "Later", result.getTimeStamp()));
+        verifyNoInteractions(commentRepository);
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void testQueueComment_bufferFull() {
+        UUID taskId = UUID.randomUUID();
+        Comment comment = new Comment();
+        comment.setText("Later");
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+        doThrow(new CommentBufferFullException("Comment buffer is full.")).when(commentBuffer).offer(any());
+
+        assertThrows(CommentBufferFullException.class, () -> taskService.queueComment(taskId, comment));
+    }
+
+    @Test
+    void testQueueComment_taskNotFound() {
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.existsById(taskId)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.queueComment(taskId, new Comment()));
+        verifyNoInteractions(commentBuffer);
     }
 
     @Test
@@ -217,40 +417,285 @@ class TaskServiceImplUnitTest {
         assertEquals("Sample Task", result.getTitle());
         verify(taskRepository, times(1)).findById(id);
     }
+
     @Test
-    void testGetTasks_ReturnsTop5Tasks() {
-        Task task1 = new Task();
-        task1.setId(UUID.randomUUID());
-        task1.setTitle("Task 1");
-        task1.setCreatedAt(LocalDateTime.now());
+    void testGetTaskDetails_NotFound() {
+        UUID id = UUID.randomUUID();
+        when(taskRepository.findDtoById(id)).thenReturn(Optional.empty());
 
-        Task task2 = new Task();
-        task2.setId(UUID.randomUUID());
-        task2.setTitle("Task 2");
-        task2.setCreatedAt(LocalDateTime.now());
+        assertThrows(EntityNotFoundException.class, () -> taskService.getTaskDetails(id, false));
+    }
 
-        List<Task> mockTasks = Arrays.asList(task1, task2);
-        when(taskRepository.findTop5ByOrderByCreatedAtDesc()).thenReturn(mockTasks);
+    @Test
+    void testGetTaskDetails_servedFromCacheUntilTaskChanges() {
+        UUID id = UUID.randomUUID();
+        TaskDto mockTask = TaskDto.builder().id(id).title("Sample Task").commentCount(0L).build();
+        when(taskRepository.findDtoById(id)).thenReturn(Optional.of(mockTask));
 
-        List<Task> result = taskService.getTasks(null, null, null, null);
+        taskService.getTaskDetails(id, false);
+        taskService.getTaskDetails(id, false);
+        verify(taskRepository, times(1)).findDtoById(id);
+
+        taskCache.onTaskChanged(TaskChangedEvent.deleted(id));
+        taskService.getTaskDetails(id, false);
+
+        verify(taskRepository, times(2)).findDtoById(id);
+        verifyNoInteractions(commentRepository);
+        assertEquals(1, taskCache.stats().hitCount());
+        assertEquals(2, taskCache.stats().missCount());
+        assertEquals(1, taskCache.invalidationCount());
+    }
+
+    @Test
+    void testGetTaskDetails_includeCommentsDoesNotChangeCachedTask() {
+        UUID id = UUID.randomUUID();
+        TaskDto mockTask = TaskDto.builder().id(id).title("Sample Task").commentCount(1L).build();
+        CommentDto comment = CommentDto.builder().id(UUID.randomUUID()).text("First").build();
+        when(taskRepository.findDtoById(id)).thenReturn(Optional.of(mockTask));
+        when(commentRepository.findDtosByTaskId(eq(id), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(comment)));
+
+        TaskDto result = taskService.getTaskDetails(id, true);
+
+        assertEquals(List.of(comment), result.getComments());
+        assertNull(taskService.getTaskDetails(id, false).getComments());
+    }
+
+    @Test
+    void testGetTasks_ReturnsFilteredTasks() {
+        TaskDto task1 = TaskDto.builder().id(UUID.randomUUID()).title("Task 1").createdAt(LocalDateTime.now()).build();
+        TaskDto task2 = TaskDto.builder().id(UUID.randomUUID()).title("Task 2").createdAt(LocalDateTime.now()).build();
+
+        List<TaskDto> mockTasks = Arrays.asList(task1, task2);
+        when(taskRepository.findPage(anySpecification(), any(TaskSort.class), any(), anyInt())).thenReturn(mockTasks);
+
+        TaskPageDto result = taskService.getTasks(null, false, null, "overdue", null, null, null);
 
         assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(taskRepository, times(1)).findTop5ByOrderByCreatedAtDesc();
+        assertEquals(2, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(taskRepository, times(1)).findPage(anySpecification(), eq(TaskSort.CREATED_AT), isNull(), eq(21));
+    }
+
+    @Test
+    void testGetTasks_ReturnsNextCursorWhenMoreRowsExist() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskDto> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(TaskDto.builder().id(UUID.randomUUID()).createdAt(now.minusMinutes(i)).build());
+        }
+        when(taskRepository.findPage(anySpecification(), eq(TaskSort.CREATED_AT), isNull(), eq(3))).thenReturn(rows);
+
+        TaskPageDto result = taskService.getTasks(null, null, null, null, null, null, 2);
+
+        assertEquals(2, result.getItems().size());
+        TaskCursor cursor = TaskCursor.decode(result.getNextCursor());
+        assertEquals(rows.get(1).getId(), cursor.id());
+        assertEquals(rows.get(1).getCreatedAt(), cursor.createdAt());
     }
 
+    @Test
+    void testGetTasks_searchKeepsRelevanceOrder() {
+        TaskDto first = TaskDto.builder().id(UUID.randomUUID()).build();
+        TaskDto second = TaskDto.builder().id(UUID.randomUUID()).build();
+
+        when(taskSearchEngine.search(eq("report"), any(TaskSearchFilter.class), anyInt())).thenReturn(List.of(first.getId(), second.getId()));
+        when(taskRepository.findDtos(anySpecification(), any(Sort.class), anyInt())).thenReturn(List.of(second, first));
+
+        TaskPageDto result = taskService.getTasks("report", null, null, null, null, null, null);
+
+        assertEquals(List.of(first, second), result.getItems());
+        assertNull(result.getNextCursor());
+        verify(taskRepository, never()).findPage(anySpecification(), any(TaskSort.class), any(), anyInt());
+    }
+
+    @Test
+    void testGetTasks_searchWithoutMatches() {
+        when(taskSearchEngine.search(eq("nothing"), any(TaskSearchFilter.class), anyInt())).thenReturn(List.of());
+
+        TaskPageDto result = taskService.getTasks("nothing", null, null, null, null, null, null);
+
+        assertTrue(result.getItems().isEmpty());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetTasks_searchFiltersBeforeLimit() {
+        when(taskSearchEngine.search(eq("report"), any(TaskSearchFilter.class), anyInt())).thenReturn(List.of());
+
+        taskService.getTasks("report", false, null, "overdue", null, null, 5);
+
+        ArgumentCaptor<TaskSearchFilter> filter = ArgumentCaptor.forClass(TaskSearchFilter.class);
+        verify(taskSearchEngine).search(eq("report"), filter.capture(), eq(5));
+        assertEquals(false, filter.getValue().completed());
+        assertEquals(TaskFilterType.OVERDUE, filter.getValue().filterType());
+    }
+
+    @Test
+    void testGetTasks_searchCannotBeSortedOrPaged() {
+        String cursor = new TaskCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks("report", null, null, null, "priority", null, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks("report", null, null, null, null, cursor, null));
+        verifyNoInteractions(taskSearchEngine, taskRepository);
+    }
+
+    @Test
+    void testGetTasks_invalidPaging() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(null, null, null, null, null, "not-a-cursor", null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(null, null, null, null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(null, null, null, null, null, null, 1000));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetTasks_unsupportedFilterType() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(null, null, null, "someday", null, null, null));
+        verifyNoInteractions(taskRepository);
+    }
 
     @Test
     void testGetTasks_ThrowsRuntimeExceptionOnFailure() {
         // Arrange
-        when(taskRepository.findTop5ByOrderByCreatedAtDesc()).thenThrow(new RuntimeException("DB Error"));
+        when(taskRepository.findPage(anySpecification(), any(TaskSort.class), any(), anyInt())).thenThrow(new RuntimeException("DB Error"));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () ->
-                taskService.getTasks(null, null, null, null)
+                taskService.getTasks(null, null, null, null, null, null, null)
         );
         assertEquals("Failed to fetch tasks", exception.getMessage());
-        verify(taskRepository, times(1)).findTop5ByOrderByCreatedAtDesc();
+        verify(taskRepository, times(1)).findPage(anySpecification(), any(TaskSort.class), any(), anyInt());
     }
 
+    @Test
+    void testCreateTasks_reportsInvalidItems() {
+        Task valid = new Task();
+        valid.setTitle("Valid");
+
+        BatchResultDto result = taskService.createTasks(Arrays.asList(valid, null));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertFalse(result.getResults().get(1).isSuccess());
+        verify(taskRepository).saveAll(List.of(valid));
+        verify(taskRepository).flush();
+    }
+
+    @Test
+    void testImportTasks_reportsRejectedLines() {
+        runTransactionCallbacks();
+        String body = String.join("\n",
+                "{\"title\":\"First\"}",
+                "{\"title\":",
+                "",
+                "null",
+                "{\"title\":\"Second\",\"dueDate\":\"2030-01-01\"}");
+
+        ImportResultDto result = taskService.importTasks(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(4, result.getLines());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertFalse(result.isErrorsTruncated());
+        assertEquals(List.of(2L, 4L), result.getErrors().stream().map(ImportErrorDto::getLine).toList());
+        verify(taskRepository, times(1)).saveAll(argThat((List<Task> tasks) -> tasks.size() == 2));
+        verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void testImportTasks_failedChunkIsReportedAndImportContinues() {
+        runTransactionCallbacks();
+        when(taskRepository.saveAll(any())).thenThrow(new IllegalStateException("database down")).thenReturn(List.of());
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 501; i++) {
+            body.append("{\"title\":\"Task ").append(i).append("\"}\n");
+        }
+
+        ImportResultDto result = taskService.importTasks(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(501, result.getLines());
+        assertEquals(1, result.getImported());
+        assertEquals(500, result.getFailed());
+        assertEquals(1L, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getError().contains("database down"));
+        verify(taskRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    void testUpdateTasks_reportsMissingTasks() {
+        UUID existingId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        Task existing = new Task();
+        existing.setId(existingId);
+        existing.setTitle("Old");
+
+        Task update = new Task();
+        update.setId(existingId);
+        update.setTitle("New");
+        Task missing = new Task();
+        missing.setId(missingId);
+
+        when(taskRepository.findAllById(any())).thenReturn(List.of(existing));
+
+        BatchResultDto result = taskService.updateTasks(List.of(update, missing));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals("New", existing.getTitle());
+        verify(eventPublisher).publishEvent(argThat((TaskChangedEvent event) ->
+                event.taskId().equals(existingId) && event.previous() != null));
+        assertEquals(missingId, result.getResults().get(1).getId());
+        assertTrue(result.getResults().get(1).getError().contains(missingId.toString()));
+    }
+
+    @Test
+    void testDeleteTasks_removesCommentsThenTasks() {
+        UUID existingId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        TaskDto row = TaskDto.builder().id(existingId).priority(TaskPriority.LOW).build();
+        when(taskRepository.deleteAllReturning(Set.of(existingId, missingId))).thenReturn(List.of(row));
+
+        BatchResultDto result = taskService.deleteTasks(List.of(existingId, missingId));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        verify(commentRepository).deleteByTaskIdIn(Set.of(existingId, missingId));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(existingId, new TaskState(false, TaskPriority.LOW, null)));
+    }
+
+    @Test
+    void testDeleteTasks_taskDeletedConcurrentlyIsNotFound() {
+        UUID id = UUID.randomUUID();
+        when(taskPurger.isSoftDeleteEnabled()).thenReturn(true);
+        // Another request tombstoned the task between its read and this statement.
+        when(taskRepository.tombstoneAllReturning(eq(Set.of(id)), any(LocalDateTime.class))).thenReturn(List.of());
+
+        BatchResultDto result = taskService.deleteTasks(List.of(id));
+
+        assertEquals(0, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void testBatch_rejectsEmptyAndOversizedBatches() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> taskService.deleteTasks(null));
+        List<UUID> tooMany = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            tooMany.add(UUID.randomUUID());
+        }
+        assertThrows(IllegalArgumentException.class, () -> taskService.deleteTasks(tooMany));
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static Specification<Task> anySpecification() {
+        return any();
+    }
+
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
 }
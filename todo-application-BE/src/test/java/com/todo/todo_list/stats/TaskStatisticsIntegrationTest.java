@@ -0,0 +1,159 @@
+package com.todo.todo_list.stats;
+
+import com.todo.todo_list.dto.BatchResultDto;
+import com.todo.todo_list.dto.TaskStatsDto;
+import com.todo.todo_list.entity.Comment;
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.repository.TaskRepository;
+import com.todo.todo_list.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every kind of task write goes through the service, then the counters are compared with a full recount of the
+ * table. Not transactional, since the counters only move when a transaction commits.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskStatisticsIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Other tests clean up with bulk deletes that publish no events.
+        tearDown();
+        taskStatistics.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM task");
+    }
+
+    @Test
+    void testCountersMatchRecountAfterMixedWrites() {
+        LocalDate today = LocalDate.now();
+        List<Task> created = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            LocalDate dueDate = i % 4 == 0 ? null : today.plusDays(i % 7 - 3);
+            created.add(taskService.createTask(newTask("Task " + i, i % 5 == 0, priority(i), dueDate)));
+        }
+
+        Task first = created.get(0);
+        taskService.updateTask(first.getId(), newTask("Edited", false, TaskPriority.HIGH, today.minusDays(1)));
+        taskService.toggleCompletion(created.get(1).getId(), true);
+        taskService.toggleCompletion(created.get(5).getId(), false);
+        taskService.toggleCompletion(created.get(2).getId(), created.get(2).isCompleted());
+        taskService.deletTask(created.get(3).getId());
+        Comment comment = new Comment();
+        comment.setText("Comments do not change the counts");
+        taskService.addComment(created.get(4).getId(), comment);
+
+        taskService.createTasks(List.of(newTask("Batch 1", false, TaskPriority.LOW, today), newTask("Batch 2", true, null, null)));
+        Task batchUpdate = newTask("Batch edited", true, TaskPriority.MEDIUM, today.plusDays(2));
+        batchUpdate.setId(created.get(6).getId());
+        Task sameTaskAgain = newTask("Batch edited twice", false, TaskPriority.LOW, today.minusDays(5));
+        sameTaskAgain.setId(created.get(6).getId());
+        taskService.updateTasks(List.of(batchUpdate, sameTaskAgain));
+        taskService.deleteTasks(List.of(created.get(7).getId(), created.get(8).getId(), UUID.randomUUID()));
+        // Already deleted: reported as not found and not counted down a second time.
+        BatchResultDto again = taskService.deleteTasks(List.of(created.get(3).getId(), created.get(7).getId()));
+        assertEquals(2, again.getFailed());
+
+        String ndjson = "{\"title\":\"Imported\",\"priority\":\"high\",\"dueDate\":\"" + today + "\"}\n"
+                + "{\"title\":\"Imported late\",\"dueDate\":\"" + today.minusDays(10) + "\"}\n";
+        taskService.importTasks(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        TaskStatsDto stats = taskService.getStatistics();
+        assertEquals(recount(today), stats);
+
+        TaskStatistics rebuilt = new TaskStatistics(jdbcTemplate);
+        rebuilt.rebuild();
+        assertEquals(rebuilt.snapshot(), stats);
+    }
+
+    @Test
+    void testEmptyTable() {
+        TaskStatsDto stats = taskService.getStatistics();
+
+        assertEquals(0, stats.getTotal());
+        assertEquals(0, stats.getOverdue());
+        assertTrue(stats.getByPriority().isEmpty());
+    }
+
+    private TaskStatsDto recount(LocalDate today) {
+        List<Task> tasks = taskRepository.findAll();
+        Map<String, Long> byPriority = new TreeMap<>();
+        long completed = 0;
+        long overdue = 0;
+        long dueToday = 0;
+        for (Task task : tasks) {
+            byPriority.merge(task.getPriority().getLabel(), 1L, Long::sum);
+            if (task.isCompleted()) {
+                completed++;
+            } else if (task.getDueDate() != null && task.getDueDate().isBefore(today)) {
+                overdue++;
+            } else if (today.equals(task.getDueDate())) {
+                dueToday++;
+            }
+        }
+        return TaskStatsDto.builder()
+                .total(tasks.size())
+                .completed(completed)
+                .open(tasks.size() - completed)
+                .overdue(overdue)
+                .dueToday(dueToday)
+                .byPriority(byPriority)
+                .date(today)
+                .build();
+    }
+
+    private static TaskPriority priority(int i) {
+        return switch (i % 4) {
+            case 0 -> TaskPriority.HIGH;
+            case 1 -> TaskPriority.MEDIUM;
+            case 2 -> TaskPriority.LOW;
+            default -> null;
+        };
+    }
+
+    private static Task newTask(String title, boolean completed, TaskPriority priority, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setCompleted(completed);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
@@ -0,0 +1,132 @@
+package com.todo.todo_list.stats;
+
+import com.todo.todo_list.MutableClock;
+import com.todo.todo_list.dto.TaskStatsDto;
+import com.todo.todo_list.entity.TaskPriority;
+import com.todo.todo_list.event.TaskChangeType;
+import com.todo.todo_list.event.TaskChangedEvent;
+import com.todo.todo_list.event.TaskState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author by piyumi_navodani
+ */
+class TaskStatisticsTest {
+    private static final LocalDate TODAY = LocalDate.of(2030, 3, 10);
+
+    private final MutableClock clock = new MutableClock(TODAY);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private TaskStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new TaskStatistics(jdbcTemplate, clock);
+        // What the container calls once every bean exists, before the server takes requests.
+        statistics.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void testCreatedTasksAreCounted() {
+        statistics.onTaskChanged(created(false, TaskPriority.HIGH, TODAY.minusDays(1)));
+        statistics.onTaskChanged(created(false, TaskPriority.HIGH, TODAY));
+        statistics.onTaskChanged(created(true, TaskPriority.LOW, TODAY.minusDays(3)));
+        statistics.onTaskChanged(created(false, null, null));
+
+        TaskStatsDto stats = statistics.snapshot();
+
+        assertEquals(4, stats.getTotal());
+        assertEquals(1, stats.getCompleted());
+        assertEquals(3, stats.getOpen());
+        assertEquals(1, stats.getOverdue());
+        assertEquals(1, stats.getDueToday());
+        assertEquals(Map.of("high", 2L, "low", 1L, "none", 1L), stats.getByPriority());
+    }
+
+    @Test
+    void testUpdateToggleAndDeleteMoveCounts() {
+        UUID id = UUID.randomUUID();
+        TaskState overdue = new TaskState(false, TaskPriority.HIGH, TODAY.minusDays(2));
+        statistics.onTaskChanged(event(TaskChangeType.CREATED, id, overdue, null));
+
+        TaskState dueToday = new TaskState(false, TaskPriority.LOW, TODAY);
+        statistics.onTaskChanged(event(TaskChangeType.UPDATED, id, dueToday, overdue));
+        assertEquals(0, statistics.snapshot().getOverdue());
+        assertEquals(1, statistics.snapshot().getDueToday());
+        assertEquals(Map.of("low", 1L), statistics.snapshot().getByPriority());
+
+        TaskState done = new TaskState(true, TaskPriority.LOW, TODAY);
+        statistics.onTaskChanged(event(TaskChangeType.TOGGLED, id, done, dueToday));
+        assertEquals(1, statistics.snapshot().getCompleted());
+        assertEquals(0, statistics.snapshot().getDueToday());
+
+        statistics.onTaskChanged(TaskChangedEvent.deleted(id, done));
+        TaskStatsDto stats = statistics.snapshot();
+        assertEquals(0, stats.getTotal());
+        assertEquals(0, stats.getCompleted());
+        assertTrue(stats.getByPriority().isEmpty());
+    }
+
+    @Test
+    void testCommentsDoNotChangeCounts() {
+        statistics.onTaskChanged(created(false, TaskPriority.HIGH, TODAY));
+        statistics.onTaskChanged(TaskChangedEvent.commented(UUID.randomUUID()));
+
+        assertEquals(1, statistics.snapshot().getTotal());
+    }
+
+    @Test
+    void testDayChangeMovesOpenTasksToOverdue() {
+        statistics.onTaskChanged(created(false, TaskPriority.HIGH, TODAY));
+        statistics.onTaskChanged(created(false, TaskPriority.HIGH, TODAY.plusDays(1)));
+        statistics.onTaskChanged(created(false, TaskPriority.HIGH, TODAY.plusDays(5)));
+        statistics.onTaskChanged(created(true, TaskPriority.HIGH, TODAY));
+
+        clock.setDate(TODAY.plusDays(2));
+        TaskStatsDto stats = statistics.snapshot();
+
+        assertEquals(TODAY.plusDays(2), stats.getDate());
+        assertEquals(2, stats.getOverdue());
+        assertEquals(0, stats.getDueToday());
+
+        clock.setDate(TODAY.plusDays(5));
+        assertEquals(2, statistics.snapshot().getOverdue());
+        assertEquals(1, statistics.snapshot().getDueToday());
+
+        clock.setDate(TODAY);
+        assertEquals(0, statistics.snapshot().getOverdue());
+        assertEquals(1, statistics.snapshot().getDueToday());
+    }
+
+    @Test
+    void testChangeWithoutPreviousStateIsRecounted() {
+        statistics.onTaskChanged(new TaskChangedEvent(TaskChangeType.UPDATED, UUID.randomUUID(), "Title", null,
+                null, false, TaskPriority.HIGH));
+
+        statistics.snapshot();
+
+        // Once for the set up, once for the recount.
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    private static TaskChangedEvent created(boolean completed, TaskPriority priority, LocalDate dueDate) {
+        return event(TaskChangeType.CREATED, UUID.randomUUID(), new TaskState(completed, priority, dueDate), null);
+    }
+
+    private static TaskChangedEvent event(TaskChangeType type, UUID id, TaskState state, TaskState previous) {
+        return new TaskChangedEvent(type, id, "Task", null, state.dueDate(), state.completed(), state.priority(), previous);
+    }
+}
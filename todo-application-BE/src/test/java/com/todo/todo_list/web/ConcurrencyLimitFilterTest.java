@@ -0,0 +1,68 @@
+package com.todo.todo_list.web;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void testRejectsRequestsBeyondTheLimit() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        AtomicInteger calls = new AtomicInteger();
+
+        // The outer request holds the only permit while the inner one arrives.
+        FilterChain holding = (request, response) -> {
+            calls.incrementAndGet();
+            filter.doFilter(apiRequest(), rejected, (req, res) -> calls.incrementAndGet());
+        };
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), accepted, holding);
+
+        assertEquals(1, calls.get());
+        assertEquals(200, accepted.getStatus());
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    void testReleasesPermitWhenRequestFails() {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(apiRequest(), new MockHttpServletResponse(),
+                (request, response) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    void testIgnoresNonApiRequests() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(0, Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    private MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/tasks");
+    }
+}
@@ -0,0 +1,71 @@
+package com.todo.todo_list.web;
+
+import com.todo.todo_list.datasource.ReplicaRouting;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class ReadYourWritesFilterTest {
+    private static final Duration WINDOW = Duration.ofMillis(200);
+
+    @Test
+    void testSlowWriteStillGetsAFullWindow() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW, 100);
+
+        // The write outlasts the window that was opened when it started.
+        filter.doFilter(request("POST", "slow"), new MockHttpServletResponse(),
+                (request, response) -> sleep(WINDOW.multipliedBy(2)));
+
+        assertTrue(filter.isRecentWriter("slow"));
+    }
+
+    @Test
+    void testWindowIsKeptWhenTheWriteFails() {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW, 100);
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request("PUT", "failing"),
+                new MockHttpServletResponse(), (request, response) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertTrue(filter.isRecentWriter("failing"));
+    }
+
+    @Test
+    void testOnlyRecentWritersReadFromThePrimary() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW, 100);
+        AtomicBoolean onPrimary = new AtomicBoolean();
+        filter.doFilter(request("POST", "writer"), new MockHttpServletResponse(), (request, response) -> { });
+
+        filter.doFilter(request("GET", "writer"), new MockHttpServletResponse(),
+                (request, response) -> onPrimary.set(ReplicaRouting.isPrimaryRequired()));
+        assertTrue(onPrimary.get());
+
+        filter.doFilter(request("GET", "reader"), new MockHttpServletResponse(),
+                (request, response) -> onPrimary.set(ReplicaRouting.isPrimaryRequired()));
+        assertFalse(onPrimary.get());
+        assertFalse(filter.isRecentWriter("reader"));
+    }
+
+    private static MockHttpServletRequest request(String method, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/tasks");
+        request.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, client);
+        return request;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.todo.todo_list.web;
+
+import com.todo.todo_list.logging.SampledLogTurboFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author by piyumi_navodani
+ */
+class RequestLoggingFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void testRequestContextIsInTheMdcOnlyWhileHandling() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(1.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, String> seen = new HashMap<>();
+
+        filter.doFilter(apiRequest(), response, (request, res) -> seen.putAll(MDC.getCopyOfContextMap()));
+
+        String requestId = response.getHeader(RequestLoggingFilter.REQUEST_ID_HEADER);
+        assertNotNull(requestId);
+        assertEquals(requestId, seen.get(RequestLoggingFilter.REQUEST_ID));
+        assertEquals("GET /api/tasks", seen.get(RequestLoggingFilter.ENDPOINT));
+        assertFalse(seen.containsKey(SampledLogTurboFilter.SAMPLED));
+        assertNull(MDC.get(RequestLoggingFilter.REQUEST_ID));
+        assertNull(MDC.get(RequestLoggingFilter.DURATION));
+    }
+
+    @Test
+    void testKeepsAPlainCallerRequestIdAndReplacesOthers() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(1.0);
+        MockHttpServletRequest plain = apiRequest();
+        plain.addHeader(RequestLoggingFilter.REQUEST_ID_HEADER, "abc-123");
+        MockHttpServletRequest injected = apiRequest();
+        injected.addHeader(RequestLoggingFilter.REQUEST_ID_HEADER, "abc\nforged line");
+        MockHttpServletResponse plainResponse = new MockHttpServletResponse();
+        MockHttpServletResponse injectedResponse = new MockHttpServletResponse();
+
+        filter.doFilter(plain, plainResponse, new MockFilterChain());
+        filter.doFilter(injected, injectedResponse, new MockFilterChain());
+
+        assertEquals("abc-123", plainResponse.getHeader(RequestLoggingFilter.REQUEST_ID_HEADER));
+        assertNotEquals("abc\nforged line", injectedResponse.getHeader(RequestLoggingFilter.REQUEST_ID_HEADER));
+    }
+
+    @Test
+    void testMarksRequestsThatAreNotSampled() throws Exception {
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0);
+        Map<String, String> seen = new HashMap<>();
+
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(),
+                (request, response) -> seen.putAll(MDC.getCopyOfContextMap()));
+
+        assertEquals(SampledLogTurboFilter.NOT_SAMPLED, seen.get(SampledLogTurboFilter.SAMPLED));
+        assertNull(MDC.get(SampledLogTurboFilter.SAMPLED));
+    }
+
+    @Test
+    void testClearsTheMdcWhenRequestFails() {
+        RequestLoggingFilter filter = new RequestLoggingFilter(0.0);
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(apiRequest(), new MockHttpServletResponse(),
+                (request, response) -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertNull(MDC.get(RequestLoggingFilter.REQUEST_ID));
+        assertNull(MDC.get(SampledLogTurboFilter.SAMPLED));
+    }
+
+    @Test
+    void testRejectsSampleRateOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestLoggingFilter(1.5));
+    }
+
+    private MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/tasks");
+    }
+}
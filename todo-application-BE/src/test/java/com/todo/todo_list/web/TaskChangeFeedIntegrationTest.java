@@ -0,0 +1,112 @@
+package com.todo.todo_list.web;
+
+import com.todo.todo_list.entity.Task;
+import com.todo.todo_list.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * The change feed through the real endpoint. Not transactional: events are only sent after commit.
+ *
+ * @author by piyumi_navodani
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class TaskChangeFeedIntegrationTest {
+    private static final Pattern CREATED_ID = Pattern.compile("id:(\\d+)\\nevent:created");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM task");
+    }
+
+    @Test
+    void testCommittedChangesArePushed() throws Exception {
+        MockHttpServletResponse feed = subscribe(null);
+
+        Task task = createTask("Pushed");
+        taskService.toggleCompletion(task.getId(), true);
+        taskService.deletTask(task.getId());
+
+        String content = await(feed, body -> body.contains("event:deleted"));
+        assertTrue(content.contains("event:created"));
+        assertTrue(content.contains("event:toggled"));
+        assertTrue(content.contains(task.getId().toString()));
+        assertTrue(content.indexOf("event:created") < content.indexOf("event:toggled"));
+    }
+
+    @Test
+    void testReconnectReplaysMissedEvents() throws Exception {
+        MockHttpServletResponse first = subscribe(null);
+        createTask("Before");
+        Matcher matcher = CREATED_ID.matcher(await(first, CREATED_ID.asPredicate()));
+        assertTrue(matcher.find());
+        long lastSeen = Long.parseLong(matcher.group(1));
+
+        Task missed = createTask("Missed while reconnecting");
+
+        String replayed = await(subscribe(lastSeen), body -> body.contains(missed.getId().toString()));
+        assertFalse(replayed.contains("id:" + lastSeen + "\n"));
+    }
+
+    @Test
+    void testUnknownLastEventIdAsksForReload() throws Exception {
+        createTask("Anything");
+
+        assertTrue(await(subscribe(1L), body -> body.contains("event:reset")).contains("event:reset"));
+    }
+
+    private MockHttpServletResponse subscribe(Long lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/api/tasks/events");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        MvcResult result = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return result.getResponse();
+    }
+
+    private Task createTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.createTask(task);
+    }
+
+    private static String await(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!condition.test(content) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(condition.test(content), () -> "Feed did not deliver the expected events: " + response);
+        return content;
+    }
+}
@@ -1,6 +1,6 @@
 "use client"
 
-import { useState, useEffect, useMemo } from "react"
+import { useState, useEffect, useMemo, useRef, useCallback } from "react"
 import { Header } from "@/components/header"
 import { TaskList } from "@/components/task-list"
 import { AddEditTaskDialog } from "@/components/add-edit-task-dialog"
@@ -9,6 +9,14 @@ import type { Task } from "@/lib/date-utils"
 import { isSameDay, isSameMonth, isSameWeek, parseISO, startOfMonth, startOfWeek, format } from "date-fns"
 
 const API_BASE = "http://localhost:8080/api/tasks"
+const PAGE_SIZE = 20
+// The largest page the API serves.
+const MAX_PAGE_SIZE = 100
+
+interface TaskPage {
+  items: Task[]
+  nextCursor?: string | null
+}
 
 export default function HomePage() {
   const [tasks, setTasks] = useState<Task[]>([])
@@ -18,33 +26,119 @@ export default function HomePage() {
   const [showCompleted, setShowCompleted] = useState(false)
   const [filterDate, setFilterDate] = useState<Date | undefined>(undefined)
 
+  const [nextCursor, setNextCursor] = useState<string | null>(null)
+  const [isLoadingMore, setIsLoadingMore] = useState(false)
+  const sentinelRef = useRef<HTMLDivElement | null>(null)
+  const loadedCount = useRef(0)
+
   useEffect(() => {
-    const fetchTasks = async () => {
-      try {
-        const params = new URLSearchParams()
-        if (searchQuery) params.append("search", searchQuery)
-        if (showCompleted) params.append("completed", "true")
-        if (filterDate) {
-  const adjustedDate = new Date(
-    filterDate.getFullYear(),
-    filterDate.getMonth(),
-    filterDate.getDate()
-  )
-  params.append("dueDate", format(adjustedDate, "yyyy-MM-dd"))
-}
+    loadedCount.current = tasks.length
+  }, [tasks])
+
+  const buildParams = useCallback((cursor?: string | null, size: number = PAGE_SIZE) => {
+    const params = new URLSearchParams()
+    if (searchQuery) params.append("search", searchQuery)
+    if (showCompleted) params.append("completed", "true")
+    if (filterDate) {
+      const adjustedDate = new Date(
+        filterDate.getFullYear(),
+        filterDate.getMonth(),
+        filterDate.getDate()
+      )
+      params.append("dueDate", format(adjustedDate, "yyyy-MM-dd"))
+    }
+    params.append("size", String(size))
+    if (cursor) params.append("cursor", cursor)
+    return params
+  }, [searchQuery, showCompleted, filterDate])
+
+  const fetchTasks = useCallback(async () => {
+    try {
+      const response = await fetch(`${API_BASE}?${buildParams().toString()}`)
+      if (!response.ok) {
+        throw new Error(`Failed to fetch tasks: ${response.statusText}`)
+      }
+      const data: TaskPage = await response.json()
+      setTasks(data.items)
+      setNextCursor(data.nextCursor ?? null)
+    } catch (error) {
+      console.error("Failed to fetch tasks:", error)
+    }
+  }, [buildParams])
+
+  useEffect(() => {
+    fetchTasks()
+  }, [fetchTasks])
 
-        const response = await fetch(`${API_BASE}?${params.toString()}`)
+  // Re-reads as many tasks as are already shown instead of only the first page, so the pages loaded by scrolling
+  // stay in place and the cursor continues after the last of them.
+  const refreshLoaded = useCallback(async () => {
+    const target = Math.max(loadedCount.current, PAGE_SIZE)
+    try {
+      const items: Task[] = []
+      let cursor: string | null = null
+      do {
+        const size = Math.min(MAX_PAGE_SIZE, target - items.length)
+        const response = await fetch(`${API_BASE}?${buildParams(cursor, size).toString()}`)
         if (!response.ok) {
           throw new Error(`Failed to fetch tasks: ${response.statusText}`)
         }
-        const data: Task[] = await response.json()
-        setTasks(data)
-      } catch (error) {
-        console.error("Failed to fetch tasks:", error)
+        const data: TaskPage = await response.json()
+        items.push(...data.items)
+        cursor = data.nextCursor ?? null
+      } while (cursor && items.length < target)
+      setTasks(items)
+      setNextCursor(cursor)
+    } catch (error) {
+      console.error("Failed to refresh tasks:", error)
+    }
+  }, [buildParams])
+
+  // Changes made elsewhere arrive over the change feed, as do due and overdue reminders. Bursts are coalesced
+  // into one refresh of the loaded tasks, which is cheap because unchanged pages are answered with 304.
+  useEffect(() => {
+    const source = new EventSource(`${API_BASE}/events`)
+    let timer: ReturnType<typeof setTimeout> | undefined
+    const refresh = () => {
+      clearTimeout(timer)
+      timer = setTimeout(() => refreshLoaded(), 250)
+    }
+    const eventTypes = ["created", "updated", "toggled", "deleted", "commented", "due", "overdue", "reset"]
+    eventTypes.forEach(type => source.addEventListener(type, refresh))
+    return () => {
+      clearTimeout(timer)
+      source.close()
+    }
+  }, [refreshLoaded])
+
+  // Keyset paging: each request continues from the last row already shown, earlier rows are never re-read.
+  const loadMore = useCallback(async () => {
+    if (!nextCursor || isLoadingMore) return
+    setIsLoadingMore(true)
+    try {
+      const response = await fetch(`${API_BASE}?${buildParams(nextCursor).toString()}`)
+      if (!response.ok) {
+        throw new Error(`Failed to fetch tasks: ${response.statusText}`)
       }
+      const data: TaskPage = await response.json()
+      setTasks(previous => [...previous, ...data.items])
+      setNextCursor(data.nextCursor ?? null)
+    } catch (error) {
+      console.error("Failed to load more tasks:", error)
+    } finally {
+      setIsLoadingMore(false)
     }
-    fetchTasks()
-  }, [searchQuery, showCompleted, filterDate])
+  }, [nextCursor, isLoadingMore, buildParams])
+
+  useEffect(() => {
+    const sentinel = sentinelRef.current
+    if (!sentinel) return
+    const observer = new IntersectionObserver(entries => {
+      if (entries[0].isIntersecting) loadMore()
+    })
+    observer.observe(sentinel)
+    return () => observer.disconnect()
+  }, [loadMore])
 
   const handleSaveTask = async (taskToSave: Task) => {
     try {
@@ -56,6 +150,12 @@ export default function HomePage() {
           headers: { "Content-Type": "application/json" },
           body: JSON.stringify(taskToSave),
         });
+        if (response.status === 409) {
+          // Someone else changed the task since it was loaded; show the current version instead of overwriting it.
+          console.warn("Task was changed by another request, reloading.");
+          await refreshLoaded();
+          return;
+        }
         if (!response.ok) throw new Error("Update failed");
         const updatedTask = await response.json();
       } else {
@@ -68,9 +168,7 @@ export default function HomePage() {
         const createdTask = await response.json();
       }
 
-      const refreshed = await fetch(`${API_BASE}`);
-      const latest = await refreshed.json();
-      setTasks(latest);
+      await refreshLoaded();
     } catch (error) {
       console.error("Failed to save task:", error);
     } finally {
@@ -88,7 +186,7 @@ export default function HomePage() {
       })
       if (!response.ok) throw new Error("Completion update failed")
       const updatedTask = await response.json()
-      setTasks(tasks.map(task => (task.id === updatedTask.id ? updatedTask : task)))
+      setTasks(tasks.map(task => (task.id === updatedTask.id ? { ...task, ...updatedTask } : task)))
     } catch (error) {
       console.error("Failed to toggle completion:", error)
     }
@@ -106,9 +204,7 @@ export default function HomePage() {
       });
       if (!response.ok) throw new Error("Delete failed");
 
-      const refreshed = await fetch(`${API_BASE}`);
-      const latest = await refreshed.json();
-      setTasks(latest);
+      await refreshLoaded();
     } catch (error) {
       console.error("Failed to delete task:", error);
     }
@@ -127,14 +223,26 @@ export default function HomePage() {
         body: JSON.stringify(newComment),
       })
       if (!response.ok) throw new Error("Add comment failed")
-      const updatedTask = await response.json()
+      const createdComment = await response.json()
 
-      setTasks(tasks.map(task => (task.id === taskId ? updatedTask : task)))
+      setTasks(tasks.map(task => (task.id === taskId ? { ...task, commentCount: (task.commentCount ?? 0) + 1, comments: task.comments ? [...task.comments, createdComment] : undefined } : task)))
     } catch (error) {
       console.error("Failed to add comment:", error)
     }
   }
 
+  const handleLoadComments = async (taskId: string) => {
+    try {
+      const response = await fetch(`${API_BASE}/${taskId}/comments?size=100`)
+      if (!response.ok) throw new Error("Load comments failed")
+      const page = await response.json()
+
+      setTasks(current => current.map(task => (task.id === taskId ? { ...task, comments: page.items } : task)))
+    } catch (error) {
+      console.error("Failed to load comments:", error)
+    }
+  }
+
   const handleFilterThisWeek = () => {
     setFilterDate(startOfWeek(new Date(), { weekStartsOn: 1 }))
   }
@@ -193,8 +301,10 @@ export default function HomePage() {
             onEdit={handleEditTask}
             onDelete={handleDeleteTask}
             onAddComment={handleAddComment}
+            onLoadComments={handleLoadComments}
             showCompleted={showCompleted}
           />
+          <div ref={sentinelRef} className="h-1" />
         </main>
         <FAB
           onClick={() => {
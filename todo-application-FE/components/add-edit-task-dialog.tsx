@@ -52,6 +52,7 @@ export function AddEditTaskDialog({ isOpen, onClose, onSave, initialTask }: AddE
       dueDate: dueDate ? format(dueDate, "yyyy-MM-dd") : undefined,
       completed: initialTask?.completed || false,
       priority: priority,
+      version: initialTask?.version,
       comments: initialTask?.comments || [],
     }
     onSave(newTask)
@@ -17,14 +17,25 @@ interface TaskCardProps {
   onEdit: (task: Task) => void 
   onDelete: (id: string) => void 
   onAddComment: (taskId: string, commentText: string) => void 
+  onLoadComments: (taskId: string) => void
 }
 
-export function TaskCard({ task, onToggleComplete, onEdit, onDelete, onAddComment }: TaskCardProps) {
+export function TaskCard({ task, onToggleComplete, onEdit, onDelete, onAddComment, onLoadComments }: TaskCardProps) {
 
   const [isCommentsOpen, setIsCommentsOpen] = useState(false)
   const [newCommentText, setNewCommentText] = useState("")
 
 
+  const commentCount = task.commentCount ?? task.comments?.length ?? 0
+
+  // The list only carries the comment count; the comments are fetched the first time the section is opened.
+  const handleCommentsOpenChange = (open: boolean) => {
+    setIsCommentsOpen(open)
+    if (open && !task.comments) {
+      onLoadComments(task.id)
+    }
+  }
+
   const handleAddComment = () => {
     if (newCommentText.trim()) {
       onAddComment(task.id, newCommentText.trim())
@@ -73,19 +84,19 @@ export function TaskCard({ task, onToggleComplete, onEdit, onDelete, onAddCommen
         {task.description && <p className="text-sm text-gray-700 mb-2">{task.description}</p>}
 
         
-        <Collapsible open={isCommentsOpen} onOpenChange={setIsCommentsOpen} className="w-full space-y-2">
+        <Collapsible open={isCommentsOpen} onOpenChange={handleCommentsOpenChange} className="w-full space-y-2">
           <CollapsibleTrigger asChild>
             <Button variant="ghost" className="w-full justify-start text-sm text-muted-foreground">
               <MessageSquare className="mr-2 h-4 w-4" />
-              Comments ({task.comments.length})
+              Comments ({commentCount})
               {isCommentsOpen ? <ChevronUp className="ml-auto h-4 w-4" /> : <ChevronDown className="ml-auto h-4 w-4" />}
             </Button>
           </CollapsibleTrigger>
           <CollapsibleContent className="space-y-3">
             <Separator />
             <div className="space-y-2 max-h-48 overflow-y-auto pr-2">
-              {task.comments.length === 0 ? (
-                <p className="text-sm text-muted-foreground text-center">No comments yet.</p>
+              {!task.comments || task.comments.length === 0 ? (
+                <p className="text-sm text-muted-foreground text-center">{task.comments ? "No comments yet." : "Loading comments..."}</p>
               ) : (
 
                 task.comments.map((comment) => (
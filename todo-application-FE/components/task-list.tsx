@@ -9,10 +9,11 @@ interface TaskListProps {
   onEdit: (task: Task) => void
   onDelete: (id: string) => void
   onAddComment: (taskId: string, commentText: string) => void 
+  onLoadComments: (taskId: string) => void
   showCompleted: boolean
 }
 
-export function TaskList({ tasks, onToggleComplete, onEdit, onDelete, onAddComment, showCompleted }: TaskListProps) {
+export function TaskList({ tasks, onToggleComplete, onEdit, onDelete, onAddComment, onLoadComments, showCompleted }: TaskListProps) {
   
   const filteredTasks = tasks.filter((task) => showCompleted || !task.completed)
 
@@ -39,6 +40,7 @@ export function TaskList({ tasks, onToggleComplete, onEdit, onDelete, onAddComme
                   onEdit={onEdit}
                   onDelete={onDelete}
                   onAddComment={onAddComment}
+                  onLoadComments={onLoadComments}
                 />
               ))}
             </div>
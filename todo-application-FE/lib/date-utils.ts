@@ -9,7 +9,9 @@ export interface Task {
   dueDate?: string
   completed: boolean 
   priority?: "low" | "medium" | "high" 
-  comments: Comment[]
+  version?: number
+  commentCount?: number
+  comments?: Comment[]
 }
 
 export interface Comment {